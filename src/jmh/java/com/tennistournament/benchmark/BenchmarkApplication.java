@@ -0,0 +1,38 @@
+package com.tennistournament.benchmark;
+
+import com.tennistournament.client.AsyncClubServiceClient;
+import com.tennistournament.client.ClubNameResolver;
+import com.tennistournament.client.ClubRegistry;
+import com.tennistournament.client.ClubServiceClient;
+import com.tennistournament.service.impl.SchedulingConflictIndex;
+import com.tennistournament.service.impl.TournamentServiceImpl;
+import com.tennistournament.service.impl.UserIdentityFilter;
+import com.tennistournament.service.impl.UserProfileServiceImpl;
+import com.tennistournament.service.impl.UserSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.time.Duration;
+
+/**
+ * Service layer wired against H2 and the stub club client, without the web layer or Feign
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EntityScan("com.tennistournament.model")
+@EnableJpaRepositories("com.tennistournament.repository")
+@Import({TournamentServiceImpl.class, UserProfileServiceImpl.class, UserIdentityFilter.class, UserSearchIndex.class,
+        ClubNameResolver.class, ClubRegistry.class, SchedulingConflictIndex.class, AsyncClubServiceClient.class})
+public class BenchmarkApplication {
+
+    @Bean
+    public ClubServiceClient clubServiceClient(@Value("${benchmark.club.latency:0ms}") Duration latency,
+                                               @Value("${benchmark.club.count:10}") int clubCount) {
+        return new StubClubServiceClient(latency, clubCount);
+    }
+}
@@ -0,0 +1,149 @@
+package com.tennistournament.benchmark;
+
+import com.tennistournament.dto.TournamentResponse;
+import com.tennistournament.dto.UserProfileResponse;
+import com.tennistournament.model.Tournament;
+import com.tennistournament.model.UserProfile;
+import com.tennistournament.repository.TournamentRepository;
+import com.tennistournament.repository.UserProfileRepository;
+import com.tennistournament.service.impl.SchedulingConflictIndex;
+import com.tennistournament.service.impl.TournamentServiceImpl;
+import com.tennistournament.service.impl.UserProfileServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service layer hot paths against a seeded in-memory H2 database
+ * The club snapshot is disabled, so club names are looked up through the stub club client on every read
+ * Data sizes and club service latency are JMH parameters, e.g.
+ * ./gradlew jmh -Pjmh.includes=ServiceLayerBenchmark.getAllTournaments
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ServiceLayerBenchmark {
+
+    private static final int CLUB_COUNT = 10;
+    private static final LocalDateTime FIRST_START = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    @Param({"100", "1000"})
+    public int tournamentCount;
+
+    @Param({"1000"})
+    public int userCount;
+
+    @Param({"50"})
+    public int participantsPerTournament;
+
+    @Param({"0", "5"})
+    public int clubLatencyMillis;
+
+    private ConfigurableApplicationContext context;
+    private TournamentServiceImpl tournamentService;
+    private UserProfileServiceImpl userProfileService;
+    private Long sampleTournamentId;
+    private Long registrationTournamentId;
+    private Long unregisteredUserId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--spring.datasource.url=jdbc:h2:mem:benchmark-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        // Without the club snapshot every club name is looked up, so the latency is measured
+                        "--club.registry.enabled=false",
+                        "--benchmark.club.latency=" + clubLatencyMillis + "ms",
+                        "--benchmark.club.count=" + CLUB_COUNT);
+
+        tournamentService = context.getBean(TournamentServiceImpl.class);
+        userProfileService = context.getBean(UserProfileServiceImpl.class);
+        context.getBean(TransactionTemplate.class).executeWithoutResult(status -> seed());
+
+        // Counters and the scheduling index are normally rebuilt at startup, before the seed existed
+        tournamentService.synchronizeParticipantCounts();
+        context.getBean(SchedulingConflictIndex.class).rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private void seed() {
+        UserProfileRepository userProfileRepository = context.getBean(UserProfileRepository.class);
+        TournamentRepository tournamentRepository = context.getBean(TournamentRepository.class);
+
+        List<UserProfile> users = new ArrayList<>(userCount + 1);
+        for (int i = 0; i <= userCount; i++) {
+            users.add(new UserProfile("player" + i, "player" + i + "@example.com", "First" + i, "Last" + i,
+                    "INTERMEDIATE"));
+        }
+        users = userProfileRepository.saveAll(users);
+        // The last user is kept free of registrations for the register/unregister benchmark
+        unregisteredUserId = users.get(userCount).getId();
+
+        List<Tournament> tournaments = new ArrayList<>(tournamentCount);
+        for (int t = 0; t < tournamentCount; t++) {
+            // One tournament per day so seeded registrations never overlap
+            LocalDateTime start = FIRST_START.plusDays(t);
+            Tournament tournament = new Tournament("Tournament " + t, start, start.plusHours(8),
+                    participantsPerTournament * 2, (long) (t % CLUB_COUNT + 1));
+            for (int p = 0; p < participantsPerTournament; p++) {
+                tournament.getParticipants().add(users.get((t * participantsPerTournament + p) % userCount));
+            }
+            tournaments.add(tournament);
+        }
+        tournaments = tournamentRepository.saveAll(tournaments);
+        sampleTournamentId = tournaments.get(tournamentCount / 2).getId();
+        registrationTournamentId = tournaments.get(0).getId();
+    }
+
+    /**
+     * Single tournament lookup, dominated by the response mapping
+     */
+    @Benchmark
+    public TournamentResponse getTournamentById() {
+        return tournamentService.getTournamentById(sampleTournamentId);
+    }
+
+    @Benchmark
+    public List<TournamentResponse> getAllTournaments() {
+        return tournamentService.getAllTournaments(null);
+    }
+
+    /**
+     * Register and unregister the same user so the data set stays unchanged between invocations
+     */
+    @Benchmark
+    public void registerAndUnregisterUser() {
+        tournamentService.registerUserForTournament(registrationTournamentId, unregisteredUserId);
+        tournamentService.unregisterUserFromTournament(registrationTournamentId, unregisteredUserId);
+    }
+
+    @Benchmark
+    public List<UserProfileResponse> getAllUsers() {
+        return userProfileService.getAllUsers();
+    }
+}
@@ -0,0 +1,59 @@
+package com.tennistournament.benchmark;
+
+import com.tennistournament.client.ClubServiceClient;
+import com.tennistournament.client.dto.ClubResponse;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-process stand-in for tennis-club-service
+ * Every call waits for the configured latency to model the network round-trip
+ */
+public class StubClubServiceClient implements ClubServiceClient {
+
+    private final Duration latency;
+    private final int clubCount;
+
+    public StubClubServiceClient(Duration latency, int clubCount) {
+        this.latency = latency;
+        this.clubCount = clubCount;
+    }
+
+    @Override
+    public ResponseEntity<List<ClubResponse>> getAllClubs() {
+        simulateLatency();
+        List<ClubResponse> clubs = new ArrayList<>(clubCount);
+        for (long id = 1; id <= clubCount; id++) {
+            clubs.add(club(id));
+        }
+        return ResponseEntity.ok(clubs);
+    }
+
+    @Override
+    public ResponseEntity<List<ClubResponse>> getAllClubs(String ifNoneMatch) {
+        return getAllClubs();
+    }
+
+    @Override
+    public ResponseEntity<ClubResponse> getClubById(Long id) {
+        simulateLatency();
+        if (id < 1 || id > clubCount) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(club(id));
+    }
+
+    private ClubResponse club(long id) {
+        return new ClubResponse(id, "Club " + id, id + " Court Street");
+    }
+
+    private void simulateLatency() {
+        if (!latency.isZero()) {
+            LockSupport.parkNanos(latency.toNanos());
+        }
+    }
+}
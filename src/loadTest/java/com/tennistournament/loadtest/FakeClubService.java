@@ -0,0 +1,147 @@
+package com.tennistournament.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Embedded stand-in for tennis-club-service serving /api/clubs (with ETag) and /api/clubs/{id}
+ * Latency, error rate and outages can be changed while a load test is running
+ */
+public class FakeClubService implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final int clubCount;
+
+    private volatile Duration latency = Duration.ZERO;
+    private volatile double errorRate;
+    private volatile boolean outage;
+
+    public FakeClubService(int clubCount) throws IOException {
+        this.clubCount = clubCount;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.executor = Executors.newCachedThreadPool();
+        this.server.setExecutor(executor);
+        this.server.createContext("/api/clubs", this::handle);
+        this.server.start();
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public void setLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * Fraction of requests (0.0 - 1.0) answered with 500
+     */
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    /**
+     * While an outage is active every request is answered with 503
+     */
+    public void setOutage(boolean outage) {
+        this.outage = outage;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            sleep(latency);
+            if (outage) {
+                respond(exchange, 503, Map.of("error", "Service Unavailable"));
+                return;
+            }
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                respond(exchange, 500, Map.of("error", "Internal Server Error"));
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            if (path.equals("/api/clubs") || path.equals("/api/clubs/")) {
+                // The club list never changes, so one ETag identifies it
+                String etag = "\"clubs-" + clubCount + "\"";
+                exchange.getResponseHeaders().set("ETag", etag);
+                if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                    exchange.sendResponseHeaders(304, -1);
+                    return;
+                }
+                List<Map<String, Object>> clubs = new ArrayList<>(clubCount);
+                for (long id = 1; id <= clubCount; id++) {
+                    clubs.add(club(id));
+                }
+                respond(exchange, 200, clubs);
+                return;
+            }
+
+            long id;
+            try {
+                id = Long.parseLong(path.substring("/api/clubs/".length()));
+            } catch (NumberFormatException e) {
+                respond(exchange, 400, Map.of("error", "Invalid club id"));
+                return;
+            }
+            if (id < 1 || id > clubCount) {
+                respond(exchange, 404, Map.of("error", "Club not found with id: " + id));
+                return;
+            }
+            respond(exchange, 200, club(id));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private Map<String, Object> club(long id) {
+        Map<String, Object> club = new LinkedHashMap<>();
+        club.put("id", id);
+        club.put("name", "Club " + id);
+        club.put("address", id + " Court Street");
+        club.put("courtIds", List.of());
+        return club;
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
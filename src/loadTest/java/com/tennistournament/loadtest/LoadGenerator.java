@@ -0,0 +1,197 @@
+package com.tennistournament.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JDK HttpClient based request driver recording latency per endpoint
+ * Latencies are recorded in microseconds into one HdrHistogram per endpoint and phase
+ */
+public class LoadGenerator {
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+    public LoadGenerator(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    public Response get(String endpoint, String path) {
+        return send(endpoint, request(path).GET().build());
+    }
+
+    public Response post(String endpoint, String path, Object body) {
+        return send(endpoint, request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(body)))
+                .build());
+    }
+
+    public Response post(String endpoint, String path) {
+        return send(endpoint, request(path).POST(HttpRequest.BodyPublishers.noBody()).build());
+    }
+
+    /**
+     * Drop the statistics collected so far, e.g. between warm-up and measurement
+     */
+    public void reset() {
+        stats.clear();
+    }
+
+    /**
+     * Snapshot of the statistics per endpoint, sorted by endpoint name
+     */
+    public Map<String, EndpointStats> getStats() {
+        return new TreeMap<>(stats);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30));
+    }
+
+    private Response send(String endpoint, HttpRequest request) {
+        EndpointStats endpointStats = stats.computeIfAbsent(endpoint, name -> new EndpointStats());
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            endpointStats.record(System.nanoTime() - start, response.statusCode());
+            return new Response(response.statusCode(), response.body());
+        } catch (IOException e) {
+            endpointStats.record(System.nanoTime() - start, 0);
+            return new Response(0, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(0, null);
+        }
+    }
+
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Request body cannot be serialized", e);
+        }
+    }
+
+    /**
+     * Status code and body of a completed request; status 0 means the request failed on the client side
+     */
+    public final class Response {
+        private final int status;
+        private final String body;
+
+        private Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public boolean isSuccessful() {
+            return status >= 200 && status < 300;
+        }
+
+        public Long getId() {
+            if (!isSuccessful() || body == null) {
+                return null;
+            }
+            try {
+                JsonNode id = objectMapper.readTree(body).get("id");
+                return id != null ? id.asLong() : null;
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Latency histogram and status code counts of one endpoint
+     */
+    public static final class EndpointStats {
+        private final Histogram latencyMicros = new ConcurrentHistogram(3);
+        private final LongAdder successful = new LongAdder();
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder serverErrors = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        private void record(long elapsedNanos, int status) {
+            latencyMicros.recordValue(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+            if (status >= 200 && status < 400) {
+                successful.increment();
+            } else if (status >= 400 && status < 500) {
+                clientErrors.increment();
+            } else if (status >= 500) {
+                serverErrors.increment();
+            } else {
+                failures.increment();
+            }
+        }
+
+        public long getCount() {
+            return latencyMicros.getTotalCount();
+        }
+
+        public double getPercentileMillis(double percentile) {
+            return latencyMicros.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        public double getMaxMillis() {
+            return latencyMicros.getMaxValue() / 1000.0;
+        }
+
+        public long getSuccessful() {
+            return successful.sum();
+        }
+
+        public long getClientErrors() {
+            return clientErrors.sum();
+        }
+
+        public long getServerErrors() {
+            return serverErrors.sum();
+        }
+
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        /**
+         * Full percentile distribution in milliseconds (HdrHistogram .hgrm format)
+         */
+        public void writeDistribution(PrintStream out) {
+            latencyMicros.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+}
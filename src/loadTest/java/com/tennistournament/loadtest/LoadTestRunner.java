@@ -0,0 +1,319 @@
+package com.tennistournament.loadtest;
+
+import com.tennistournament.TennisTournamentApplication;
+import com.tennistournament.loadtest.LoadGenerator.EndpointStats;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Boots the application against an embedded fake club service and drives HTTP load at it
+ * Phases: mixed traffic (reads, creates, registrations, optionally with a club service outage)
+ * followed by a registration storm on a single capacity-limited tournament.
+ * Settings are read from system properties, see {@link Settings}; reports go to loadtest.output.
+ */
+public final class LoadTestRunner {
+
+    private static final LocalDateTime FIRST_START = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    private final Settings settings;
+    private final FakeClubService clubService;
+    private final LoadGenerator generator;
+    private final List<Long> userIds = Collections.synchronizedList(new ArrayList<>());
+    private final List<Long> tournamentIds = Collections.synchronizedList(new ArrayList<>());
+    private final List<Long> trainingSessionIds = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicLong eventSequence = new AtomicLong();
+
+    private LoadTestRunner(Settings settings, FakeClubService clubService, LoadGenerator generator) {
+        this.settings = settings;
+        this.clubService = clubService;
+        this.generator = generator;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = Settings.fromSystemProperties();
+
+        try (FakeClubService clubService = new FakeClubService(settings.clubs)) {
+            clubService.setLatency(settings.clubLatency);
+            clubService.setErrorRate(settings.clubErrorRate);
+
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(TennisTournamentApplication.class)
+                    .logStartupInfo(false)
+                    .run("--server.port=0",
+                            "--club.service.url=" + clubService.getBaseUrl(),
+                            "--spring.jpa.show-sql=false",
+                            "--logging.level.root=WARN");
+            try {
+                String port = context.getEnvironment().getProperty("local.server.port");
+                LoadGenerator generator = new LoadGenerator("http://localhost:" + port + "/api");
+                new LoadTestRunner(settings, clubService, generator).run();
+            } finally {
+                context.close();
+            }
+        }
+    }
+
+    private void run() throws Exception {
+        Files.createDirectories(settings.output);
+
+        seed();
+        generator.reset();
+
+        long mixedStart = System.nanoTime();
+        runMixedTraffic();
+        report("mixed", System.nanoTime() - mixedStart);
+
+        generator.reset();
+        long stormStart = System.nanoTime();
+        runRegistrationStorm();
+        report("registration-storm", System.nanoTime() - stormStart);
+    }
+
+    private void seed() throws InterruptedException {
+        runConcurrently(settings.users, i -> createUser());
+        runConcurrently(settings.events, i -> createTournament(null));
+        runConcurrently(settings.events, i -> createTrainingSession());
+        System.out.printf("Seeded %d users, %d tournaments, %d training sessions%n",
+                userIds.size(), tournamentIds.size(), trainingSessionIds.size());
+    }
+
+    private void runMixedTraffic() throws InterruptedException {
+        ScheduledExecutorService outageScheduler = Executors.newSingleThreadScheduledExecutor();
+        if (settings.outageLength.compareTo(Duration.ZERO) > 0) {
+            outageScheduler.schedule(() -> clubService.setOutage(true),
+                    settings.outageStart.toMillis(), TimeUnit.MILLISECONDS);
+            outageScheduler.schedule(() -> clubService.setOutage(false),
+                    settings.outageStart.plus(settings.outageLength).toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        long deadline = System.nanoTime() + settings.duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(settings.concurrency);
+        for (int i = 0; i < settings.concurrency; i++) {
+            workers.submit(() -> {
+                while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    mixedOperation();
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(settings.duration.toMillis() + 60_000, TimeUnit.MILLISECONDS);
+
+        outageScheduler.shutdownNow();
+        clubService.setOutage(false);
+    }
+
+    private void mixedOperation() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int roll = random.nextInt(100);
+        if (roll < 20) {
+            generator.get("GET /tournaments", "/tournaments?limit=50");
+        } else if (roll < 35) {
+            generator.get("GET /tournaments/{id}", "/tournaments/" + pick(tournamentIds));
+        } else if (roll < 45) {
+            generator.get("GET /trainings", "/trainings");
+        } else if (roll < 55) {
+            generator.get("GET /trainings/{id}", "/trainings/" + pick(trainingSessionIds));
+        } else if (roll < 60) {
+            generator.get("GET /users", "/users");
+        } else if (roll < 70) {
+            generator.get("GET /users/{id}", "/users/" + pick(userIds));
+        } else if (roll < 75) {
+            createTournament(null);
+        } else if (roll < 80) {
+            createTrainingSession();
+        } else if (roll < 90) {
+            generator.post("POST /tournaments/{id}/register/{userId}",
+                    "/tournaments/" + pick(tournamentIds) + "/register/" + pick(userIds));
+        } else {
+            generator.post("POST /trainings/{id}/register/{userId}",
+                    "/trainings/" + pick(trainingSessionIds) + "/register/" + pick(userIds));
+        }
+    }
+
+    private void runRegistrationStorm() throws InterruptedException {
+        Long tournamentId = createTournament(settings.stormCapacity);
+        if (tournamentId == null) {
+            System.out.println("Registration storm skipped: tournament could not be created");
+            return;
+        }
+        List<Long> registrants = new ArrayList<>(userIds);
+        runConcurrently(registrants.size(), i -> generator.post("POST /tournaments/{id}/register/{userId} (storm)",
+                "/tournaments/" + tournamentId + "/register/" + registrants.get(i)));
+    }
+
+    private void createUser() {
+        long n = eventSequence.incrementAndGet();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("username", "loadtest" + n);
+        body.put("email", "loadtest" + n + "@example.com");
+        body.put("firstName", "Load");
+        body.put("lastName", "Test " + n);
+        body.put("skillLevel", "INTERMEDIATE");
+        Long id = generator.post("POST /users", "/users", body).getId();
+        if (id != null) {
+            userIds.add(id);
+        }
+    }
+
+    private Long createTournament(Integer maxParticipants) {
+        long n = eventSequence.incrementAndGet();
+        // One event per day so registrations only conflict when they hit the same event
+        LocalDateTime start = FIRST_START.plusDays(n);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("name", "Load Test Tournament " + n);
+        body.put("startDateTime", start);
+        body.put("endDateTime", start.plusHours(8));
+        body.put("maxParticipants", maxParticipants);
+        Long id = generator.post("POST /clubs/{clubId}/tournaments", "/clubs/" + randomClub() + "/tournaments", body)
+                .getId();
+        if (id != null) {
+            tournamentIds.add(id);
+        }
+        return id;
+    }
+
+    private void createTrainingSession() {
+        long n = eventSequence.incrementAndGet();
+        LocalDateTime start = FIRST_START.plusDays(n);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("name", "Load Test Session " + n);
+        body.put("description", "Generated by the load test");
+        body.put("startDateTime", start);
+        body.put("endDateTime", start.plusHours(2));
+        body.put("maxAttendees", 20);
+        body.put("coachName", "Coach " + n);
+        Long id = generator.post("POST /clubs/{clubId}/trainings", "/clubs/" + randomClub() + "/trainings", body)
+                .getId();
+        if (id != null) {
+            trainingSessionIds.add(id);
+        }
+    }
+
+    private void runConcurrently(int count, IndexedTask task) throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(settings.concurrency);
+        CountDownLatch done = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            workers.submit(() -> {
+                try {
+                    task.run(index);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        workers.shutdown();
+    }
+
+    private long randomClub() {
+        return ThreadLocalRandom.current().nextLong(1, settings.clubs + 1);
+    }
+
+    private static Long pick(List<Long> ids) {
+        synchronized (ids) {
+            return ids.isEmpty() ? 0L : ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        }
+    }
+
+    private void report(String phase, long elapsedNanos) throws IOException {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        Map<String, EndpointStats> stats = generator.getStats();
+
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("Phase %s (%.1fs)%n", phase, seconds));
+        summary.append(String.format("%-52s %8s %9s %9s %9s %9s %9s %7s %7s %7s %7s%n", "endpoint", "count",
+                "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "2xx", "4xx", "5xx", "fail"));
+        for (Map.Entry<String, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpoint = entry.getValue();
+            summary.append(String.format("%-52s %8d %9.1f %9.2f %9.2f %9.2f %9.2f %7d %7d %7d %7d%n",
+                    entry.getKey(), endpoint.getCount(), endpoint.getCount() / seconds,
+                    endpoint.getPercentileMillis(50), endpoint.getPercentileMillis(99),
+                    endpoint.getPercentileMillis(99.9), endpoint.getMaxMillis(), endpoint.getSuccessful(),
+                    endpoint.getClientErrors(), endpoint.getServerErrors(), endpoint.getFailures()));
+
+            Path histogramFile = settings.output.resolve(phase + "-" + fileName(entry.getKey()) + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(histogramFile))) {
+                endpoint.writeDistribution(out);
+            }
+        }
+
+        System.out.println(summary);
+        Files.writeString(settings.output.resolve(phase + "-summary.txt"), summary);
+    }
+
+    private static String fileName(String endpoint) {
+        return endpoint.replaceAll("[^A-Za-z0-9]+", "-").replaceAll("(^-|-$)", "").toLowerCase();
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        void run(int index);
+    }
+
+    /**
+     * Load test settings, overridable via -Dloadtest.* system properties
+     */
+    static final class Settings {
+        final Duration duration;
+        final int concurrency;
+        final int users;
+        final int events;
+        final int clubs;
+        final int stormCapacity;
+        final Duration clubLatency;
+        final double clubErrorRate;
+        final Duration outageStart;
+        final Duration outageLength;
+        final Path output;
+
+        private Settings(Duration duration, int concurrency, int users, int events, int clubs, int stormCapacity,
+                         Duration clubLatency, double clubErrorRate, Duration outageStart, Duration outageLength,
+                         Path output) {
+            this.duration = duration;
+            this.concurrency = concurrency;
+            this.users = users;
+            this.events = events;
+            this.clubs = clubs;
+            this.stormCapacity = stormCapacity;
+            this.clubLatency = clubLatency;
+            this.clubErrorRate = clubErrorRate;
+            this.outageStart = outageStart;
+            this.outageLength = outageLength;
+            this.output = output;
+        }
+
+        static Settings fromSystemProperties() {
+            return new Settings(
+                    Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 60)),
+                    Integer.getInteger("loadtest.concurrency", 32),
+                    Integer.getInteger("loadtest.users", 500),
+                    Integer.getInteger("loadtest.events", 100),
+                    Integer.getInteger("loadtest.clubs", 20),
+                    Integer.getInteger("loadtest.storm-capacity", 50),
+                    Duration.ofMillis(Long.getLong("loadtest.club-latency-ms", 20)),
+                    Double.parseDouble(System.getProperty("loadtest.club-error-rate", "0.0")),
+                    Duration.ofSeconds(Long.getLong("loadtest.outage-start-seconds", 0)),
+                    Duration.ofSeconds(Long.getLong("loadtest.outage-seconds", 0)),
+                    Path.of(System.getProperty("loadtest.output", "build/reports/load-test")));
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.tennistournament.client;
+
+import com.tennistournament.client.dto.ClubResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Latency-aware decorator for ClubServiceClient
+ * Recent call latencies are tracked in a decaying window; each call is given p99 plus headroom
+ * (bounded by the configured minimum and the static read timeout) before it fails with 504.
+ * Optionally getClubById sends a hedged second request once the p95 latency has passed and
+ * returns whichever response arrives first. Requests run on a bounded pool; a request that is given up
+ * is interrupted, and while every pool thread is still busy further calls fail with 503 at once
+ * rather than running without an adaptive timeout.
+ */
+public class AdaptiveClubServiceClient implements ClubServiceClient {
+
+    private static final long LIMITS_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final ClubServiceClient delegate;
+    private final Duration minTimeout;
+    private final Duration maxTimeout;
+    private final Duration headroom;
+    private final long minSamples;
+    private final boolean hedgingEnabled;
+    private final ThreadPoolExecutor executor;
+    private final Timer latency;
+    private final Counter timeouts;
+    private final Counter hedgesSent;
+    private final Counter hedgesWon;
+    private final Counter saturatedRejections;
+    private volatile Limits limits;
+
+    public AdaptiveClubServiceClient(ClubServiceClient delegate,
+                                     Duration minTimeout,
+                                     Duration maxTimeout,
+                                     Duration headroom,
+                                     Duration window,
+                                     long minSamples,
+                                     boolean hedgingEnabled,
+                                     int maxConcurrency,
+                                     MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.minTimeout = minTimeout;
+        this.maxTimeout = maxTimeout;
+        this.headroom = headroom;
+        this.minSamples = minSamples;
+        this.hedgingEnabled = hedgingEnabled;
+        this.limits = Limits.warmingUp(maxTimeout, System.nanoTime());
+
+        AtomicInteger threadCount = new AtomicInteger();
+        // Requests are rejected once all threads are busy, e.g. with calls the club service has not answered yet
+        this.executor = new ThreadPoolExecutor(0, maxConcurrency, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "club-client-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.latency = Timer.builder("club.client.adaptive.latency")
+                .description("Latency of individual club service requests used to derive timeouts")
+                .publishPercentiles(0.95, 0.99)
+                .distributionStatisticExpiry(window)
+                .register(meterRegistry);
+        this.timeouts = Counter.builder("club.client.adaptive.timeouts")
+                .description("Club service calls failed by the adaptive timeout")
+                .register(meterRegistry);
+        this.hedgesSent = Counter.builder("club.client.adaptive.hedges")
+                .description("Hedged club service requests")
+                .tag("result", "sent")
+                .register(meterRegistry);
+        this.hedgesWon = Counter.builder("club.client.adaptive.hedges")
+                .description("Hedged club service requests")
+                .tag("result", "won")
+                .register(meterRegistry);
+        this.saturatedRejections = Counter.builder("club.client.adaptive.rejected")
+                .description("Club service calls rejected because every request thread was busy")
+                .register(meterRegistry);
+        Gauge.builder("club.client.adaptive.timeout", this, client -> client.limits.timeoutNanos / 1_000_000.0)
+                .description("Current adaptive club service timeout")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ResponseEntity<List<ClubResponse>> getAllClubs() {
+        return call(delegate::getAllClubs, false);
+    }
+
+    @Override
+    public ResponseEntity<List<ClubResponse>> getAllClubs(String ifNoneMatch) {
+        return call(() -> delegate.getAllClubs(ifNoneMatch), false);
+    }
+
+    @Override
+    public ResponseEntity<ClubResponse> getClubById(Long id) {
+        // Lookups by ID are idempotent and cheap, so they may be hedged
+        return call(() -> delegate.getClubById(id), hedgingEnabled);
+    }
+
+    private <T> T call(Supplier<T> call, boolean hedge) {
+        Limits current = limits();
+        long start = System.nanoTime();
+        CompletableFuture<T> primary = submit(call);
+        CompletableFuture<T> hedged = null;
+        CompletableFuture<T> result = primary;
+        try {
+            if (hedge && !current.warmingUp && current.hedgeDelayNanos < current.timeoutNanos) {
+                try {
+                    return primary.get(current.hedgeDelayNanos, TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    try {
+                        hedged = submit(call);
+                        hedgesSent.increment();
+                        result = firstCompleted(primary, hedged);
+                    } catch (ResponseStatusException saturated) {
+                        // No thread left for the hedge; keep waiting for the first request
+                    }
+                }
+            }
+            long remaining = current.timeoutNanos - (System.nanoTime() - start);
+            return result.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "Club service did not respond within "
+                    + TimeUnit.NANOSECONDS.toMillis(current.timeoutNanos) + " ms");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Club service call was interrupted");
+        } finally {
+            primary.cancel(true);
+            if (hedged != null) {
+                hedged.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Run the call on the request pool; cancelling the returned future interrupts the call
+     */
+    private <T> CompletableFuture<T> submit(Supplier<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                try {
+                    result.complete(timed(call));
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            saturatedRejections.increment();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Too many club service calls in flight");
+        }
+        result.whenComplete((value, error) -> {
+            if (result.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private <T> CompletableFuture<T> firstCompleted(CompletableFuture<T> primary, CompletableFuture<T> hedged) {
+        CompletableFuture<T> first = new CompletableFuture<>();
+        primary.whenComplete((value, error) -> complete(first, value, error));
+        hedged.whenComplete((value, error) -> {
+            if (complete(first, value, error) && error == null) {
+                hedgesWon.increment();
+            }
+        });
+        return first;
+    }
+
+    private static <T> boolean complete(CompletableFuture<T> future, T value, Throwable error) {
+        if (error == null) {
+            return future.complete(value);
+        }
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return future.completeExceptionally(cause);
+    }
+
+    private <T> T timed(Supplier<T> call) {
+        // Calls that outlive their timeout are still recorded, so a slowing service raises the next timeouts
+        long start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Limits limits() {
+        Limits current = limits;
+        long now = System.nanoTime();
+        boolean warmedUp = current.warmingUp && latency.count() >= minSamples;
+        if (!warmedUp && now - current.computedAt < LIMITS_REFRESH_NANOS) {
+            return current;
+        }
+
+        Limits next;
+        if (latency.count() < minSamples) {
+            next = Limits.warmingUp(maxTimeout, now);
+        } else {
+            HistogramSnapshot snapshot = latency.takeSnapshot();
+            long p95 = 0;
+            long p99 = 0;
+            for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                if (percentile.percentile() == 0.95) {
+                    p95 = (long) percentile.value(TimeUnit.NANOSECONDS);
+                } else if (percentile.percentile() == 0.99) {
+                    p99 = (long) percentile.value(TimeUnit.NANOSECONDS);
+                }
+            }
+            long timeout = Math.min(maxTimeout.toNanos(), Math.max(minTimeout.toNanos(), p99 + headroom.toNanos()));
+            next = new Limits(timeout, p95, false, now);
+        }
+        limits = next;
+        return next;
+    }
+
+    /**
+     * Timeout and hedge delay derived from the latency window
+     */
+    private static final class Limits {
+        private final long timeoutNanos;
+        private final long hedgeDelayNanos;
+        private final boolean warmingUp;
+        private final long computedAt;
+
+        private Limits(long timeoutNanos, long hedgeDelayNanos, boolean warmingUp, long computedAt) {
+            this.timeoutNanos = timeoutNanos;
+            this.hedgeDelayNanos = hedgeDelayNanos;
+            this.warmingUp = warmingUp;
+            this.computedAt = computedAt;
+        }
+
+        static Limits warmingUp(Duration maxTimeout, long now) {
+            return new Limits(maxTimeout.toNanos(), maxTimeout.toNanos(), true, now);
+        }
+    }
+}
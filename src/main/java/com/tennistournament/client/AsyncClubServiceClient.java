@@ -0,0 +1,92 @@
+package com.tennistournament.client;
+
+import com.tennistournament.client.dto.ClubResponse;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking view of the ClubServiceClient used by the services
+ * Lookups run the decorated client (cache, coalescing, resilience, adaptive timeouts, pooled Feign
+ * transport) on a small lookup pool, so callers can overlap a club check with their own work and
+ * join it when needed. Failures surface as the same ResponseStatusExceptions as with ClubServiceClient.
+ * Once all lookup threads are busy the caller runs the lookup itself.
+ */
+@Component
+public class AsyncClubServiceClient {
+
+    private final ClubServiceClient clubServiceClient;
+    private final ThreadPoolExecutor executor;
+
+    public AsyncClubServiceClient(ClubServiceClient clubServiceClient,
+                                  @Value("${club.async.max-concurrency:16}") int maxConcurrency) {
+        this.clubServiceClient = clubServiceClient;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(maxConcurrency),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "club-async-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Get all clubs
+     */
+    public CompletableFuture<List<ClubResponse>> getAllClubs() {
+        return CompletableFuture.supplyAsync(() -> body(clubServiceClient::getAllClubs), executor);
+    }
+
+    /**
+     * Get club by ID
+     */
+    public CompletableFuture<ClubResponse> getClubById(Long id) {
+        return CompletableFuture.supplyAsync(() -> body(() -> clubServiceClient.getClubById(id)), executor);
+    }
+
+    /**
+     * Wait for a lookup started earlier and rethrow its failure unwrapped, e.g. a ResponseStatusException
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        } catch (CancellationException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Club service request was cancelled");
+        }
+    }
+
+    // Fallback answers (e.g. 503 while the circuit breaker is open) become exceptions, as a 404 already is
+    private static <T> T body(Supplier<ResponseEntity<T>> call) {
+        ResponseEntity<T> response = call.get();
+        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+            throw new ResponseStatusException(response.getStatusCode(), "Club service is unavailable");
+        }
+        return response.getBody();
+    }
+}
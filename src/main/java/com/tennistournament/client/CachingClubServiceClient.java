@@ -0,0 +1,229 @@
+package com.tennistournament.client;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.tennistournament.client.dto.ClubResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caching decorator for ClubServiceClient
+ * Club lookups are kept in a size-bounded cache, refreshed in the background once they
+ * are older than the TTL and served stale while the club service (or its fallback)
+ * cannot provide a fresh value. 404 responses are cached for a shorter time.
+ * Refreshes make blocking club service calls, so they run on a small pool of their own instead of
+ * the common ForkJoinPool. When that pool is busy a refresh is skipped; the stale entry is served
+ * and refreshed on a later read.
+ */
+public class CachingClubServiceClient implements ClubServiceClient {
+
+    private final ClubServiceClient delegate;
+    private final LoadingCache<Long, CachedClub> cache;
+    private final Executor refreshExecutor;
+
+    public CachingClubServiceClient(ClubServiceClient delegate,
+                                    long maximumSize,
+                                    Duration ttl,
+                                    Duration maxStale,
+                                    Duration negativeTtl,
+                                    int refreshConcurrency,
+                                    MeterRegistry meterRegistry) {
+        this(delegate, maximumSize, ttl, maxStale, negativeTtl, meterRegistry, Ticker.systemTicker(),
+                refreshPool(refreshConcurrency));
+    }
+
+    /**
+     * Cache reading time from the given ticker and refreshing on the given executor, for tests
+     */
+    CachingClubServiceClient(ClubServiceClient delegate,
+                             long maximumSize,
+                             Duration ttl,
+                             Duration maxStale,
+                             Duration negativeTtl,
+                             MeterRegistry meterRegistry,
+                             Ticker ticker,
+                             Executor refreshExecutor) {
+        this.delegate = delegate;
+        this.refreshExecutor = refreshExecutor;
+        this.cache = Caffeine.newBuilder()
+                .ticker(ticker)
+                .executor(refreshExecutor)
+                .maximumSize(maximumSize)
+                .expireAfter(new CachedClubExpiry(maxStale, negativeTtl))
+                .refreshAfterWrite(ttl)
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "clubs");
+    }
+
+    /**
+     * At most refreshConcurrency refreshes run at a time and as many wait; further ones are rejected
+     */
+    private static ExecutorService refreshPool(int refreshConcurrency) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return new ThreadPoolExecutor(refreshConcurrency, refreshConcurrency, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(refreshConcurrency),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "club-cache-refresh-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Stop the refresh pool; called by the container when the client bean is destroyed
+     */
+    public void shutdown() {
+        if (refreshExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Override
+    public ResponseEntity<List<ClubResponse>> getAllClubs() {
+        return cacheAll(delegate.getAllClubs());
+    }
+
+    @Override
+    public ResponseEntity<List<ClubResponse>> getAllClubs(String ifNoneMatch) {
+        return cacheAll(delegate.getAllClubs(ifNoneMatch));
+    }
+
+    private ResponseEntity<List<ClubResponse>> cacheAll(ResponseEntity<List<ClubResponse>> response) {
+        // Warm the cache with every club we just downloaded
+        if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+            for (ClubResponse club : response.getBody()) {
+                if (club.getId() != null) {
+                    cache.put(club.getId(), CachedClub.found(club));
+                }
+            }
+        }
+        return response;
+    }
+
+    @Override
+    public ResponseEntity<ClubResponse> getClubById(Long id) {
+        CachedClub cached;
+        try {
+            cached = cache.get(id);
+        } catch (ClubUnavailableException e) {
+            // Nothing cached and the club service answered with an error (e.g. fallback 503)
+            return e.getResponse();
+        }
+
+        if (cached.isNotFound()) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, cached.getNotFoundReason());
+        }
+        return ResponseEntity.ok(cached.getClub());
+    }
+
+    private CachedClub load(Long id) {
+        ResponseEntity<ClubResponse> response;
+        try {
+            response = delegate.getClubById(id);
+        } catch (ResponseStatusException e) {
+            if (e.getStatusCode().value() == HttpStatus.NOT_FOUND.value()) {
+                return CachedClub.notFound(e.getReason());
+            }
+            throw e;
+        }
+
+        if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+            return CachedClub.found(response.getBody());
+        }
+        // Failing the load keeps any stale entry in place during a background refresh
+        throw new ClubUnavailableException(response);
+    }
+
+    /**
+     * Cached club lookup result, either a club or a remembered 404
+     */
+    private static final class CachedClub {
+        private final ClubResponse club;
+        private final String notFoundReason;
+
+        private CachedClub(ClubResponse club, String notFoundReason) {
+            this.club = club;
+            this.notFoundReason = notFoundReason;
+        }
+
+        static CachedClub found(ClubResponse club) {
+            return new CachedClub(club, null);
+        }
+
+        static CachedClub notFound(String reason) {
+            return new CachedClub(null, reason);
+        }
+
+        boolean isNotFound() {
+            return club == null;
+        }
+
+        ClubResponse getClub() {
+            return club;
+        }
+
+        String getNotFoundReason() {
+            return notFoundReason;
+        }
+    }
+
+    /**
+     * Found clubs live until they are too stale to serve, 404s only for the negative TTL
+     */
+    private static final class CachedClubExpiry implements Expiry<Long, CachedClub> {
+        private final long maxStaleNanos;
+        private final long negativeTtlNanos;
+
+        private CachedClubExpiry(Duration maxStale, Duration negativeTtl) {
+            this.maxStaleNanos = maxStale.toNanos();
+            this.negativeTtlNanos = negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(Long key, CachedClub value, long currentTime) {
+            return value.isNotFound() ? negativeTtlNanos : maxStaleNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, CachedClub value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, CachedClub value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * Raised from the cache loader when the club service returns a non-successful response
+     */
+    private static final class ClubUnavailableException extends RuntimeException {
+        private final transient ResponseEntity<ClubResponse> response;
+
+        private ClubUnavailableException(ResponseEntity<ClubResponse> response) {
+            super("Club service returned " + response.getStatusCode(), null, false, false);
+            this.response = response;
+        }
+
+        ResponseEntity<ClubResponse> getResponse() {
+            return response;
+        }
+    }
+}
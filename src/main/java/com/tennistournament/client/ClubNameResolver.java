@@ -0,0 +1,221 @@
+package com.tennistournament.client;
+
+import com.tennistournament.client.dto.ClubResponse;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves tennis club names for a page of tournaments or training sessions
+ * Names come from the ClubRegistry snapshot where possible. The remaining distinct club IDs are
+ * collected first so a listing costs one club service call instead of one call per row
+ * In concurrent mode the distinct clubs are looked up in parallel with an overall
+ * deadline; clubs that are not resolved in time are left without a name. A single missing
+ * club is looked up with the same deadline in either mode
+ */
+@Component
+public class ClubNameResolver {
+
+    /**
+     * How several distinct clubs are resolved
+     */
+    public enum Mode {
+        /** One getAllClubs call joined locally */
+        BULK,
+        /** One getClubById call per club, fanned out on a bounded lookup pool */
+        CONCURRENT
+    }
+
+    private final ClubServiceClient clubServiceClient;
+    private final AsyncClubServiceClient asyncClubServiceClient;
+    private final ClubRegistry clubRegistry;
+    private final ExecutorService clubLookupExecutor;
+    private final Mode mode;
+    private final Duration deadline;
+
+    public ClubNameResolver(ClubServiceClient clubServiceClient,
+                            AsyncClubServiceClient asyncClubServiceClient,
+                            ClubRegistry clubRegistry,
+                            @Value("${club.resolver.mode:BULK}") Mode mode,
+                            @Value("${club.resolver.max-concurrency:16}") int maxConcurrency,
+                            @Value("${club.resolver.deadline:2s}") Duration deadline) {
+        this.clubServiceClient = clubServiceClient;
+        this.asyncClubServiceClient = asyncClubServiceClient;
+        this.clubRegistry = clubRegistry;
+        this.mode = mode;
+        this.deadline = deadline;
+        if (mode == Mode.CONCURRENT) {
+            // The pool size caps the number of club lookups in flight from this instance
+            AtomicInteger threadCount = new AtomicInteger();
+            this.clubLookupExecutor = Executors.newFixedThreadPool(maxConcurrency, runnable -> {
+                Thread thread = new Thread(runnable, "club-lookup-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.clubLookupExecutor = null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (clubLookupExecutor != null) {
+            clubLookupExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Resolve the name of a single club, or null if the club service cannot provide it
+     */
+    public String resolveName(Long clubId) {
+        if (clubId == null) {
+            return null;
+        }
+        return resolveNames(List.of(clubId)).get(clubId);
+    }
+
+    /**
+     * Resolve names for all distinct club IDs in the given collection
+     * Clubs the club service cannot provide are missing from the returned map
+     */
+    public Map<Long, String> resolveNames(Collection<Long> clubIds) {
+        Map<Long, String> names = new HashMap<>();
+        Set<Long> distinctIds = new LinkedHashSet<>();
+        for (Long clubId : clubIds) {
+            if (clubId == null || names.containsKey(clubId)) {
+                continue;
+            }
+            ClubResponse club = clubRegistry.getClub(clubId);
+            if (club != null && club.getName() != null) {
+                names.put(clubId, club.getName());
+            } else {
+                distinctIds.add(clubId);
+            }
+        }
+
+        // Only clubs missing from the snapshot are looked up remotely
+        if (distinctIds.isEmpty()) {
+            return names;
+        }
+
+        // A single club is cheaper to fetch directly than to download the whole club list
+        if (distinctIds.size() == 1) {
+            Long clubId = distinctIds.iterator().next();
+            String name = fetchSingleNameWithDeadline(clubId);
+            if (name != null) {
+                names.put(clubId, name);
+            }
+            return names;
+        }
+
+        if (mode == Mode.CONCURRENT) {
+            names.putAll(fetchNamesConcurrently(distinctIds));
+        } else {
+            names.putAll(fetchNamesInBulk(distinctIds));
+        }
+        return names;
+    }
+
+    /**
+     * Look up one club on the asynchronous club client and wait at most the deadline for it
+     */
+    private String fetchSingleNameWithDeadline(Long clubId) {
+        CompletableFuture<ClubResponse> lookup = asyncClubServiceClient.getClubById(clubId);
+        try {
+            ClubResponse club = lookup.get(deadline.toMillis(), TimeUnit.MILLISECONDS);
+            return club != null ? club.getName() : null;
+        } catch (TimeoutException e) {
+            // The read goes on without the name; the call itself ends with the club client's timeouts
+            lookup.cancel(false);
+        } catch (ExecutionException | CancellationException e) {
+            // If club service is unavailable, leave the name unresolved
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    private String fetchSingleName(Long clubId) {
+        try {
+            ResponseEntity<ClubResponse> clubResponse = clubServiceClient.getClubById(clubId);
+            if (clubResponse.getStatusCode().is2xxSuccessful() && clubResponse.getBody() != null) {
+                return clubResponse.getBody().getName();
+            }
+        } catch (Exception e) {
+            // If club service is unavailable, leave the name unresolved
+            // This allows the response to still be returned
+        }
+        return null;
+    }
+
+    private Map<Long, String> fetchNamesInBulk(Set<Long> clubIds) {
+        Map<Long, String> names = new HashMap<>();
+        try {
+            ResponseEntity<List<ClubResponse>> clubsResponse = clubServiceClient.getAllClubs();
+            if (clubsResponse.getStatusCode().is2xxSuccessful() && clubsResponse.getBody() != null) {
+                for (ClubResponse club : clubsResponse.getBody()) {
+                    if (club.getId() != null && clubIds.contains(club.getId()) && club.getName() != null) {
+                        names.put(club.getId(), club.getName());
+                    }
+                }
+            }
+        } catch (Exception e) {
+            // If club service is unavailable, leave all names unresolved
+            // This allows the response to still be returned
+        }
+        return names;
+    }
+
+    private Map<Long, String> fetchNamesConcurrently(Set<Long> clubIds) {
+        List<Long> orderedIds = new ArrayList<>(clubIds);
+        List<Callable<String>> lookups = orderedIds.stream()
+                .map(clubId -> (Callable<String>) () -> fetchSingleName(clubId))
+                .collect(Collectors.toList());
+
+        List<Future<String>> results;
+        try {
+            // invokeAll cancels every lookup still queued or running when the deadline passes
+            results = clubLookupExecutor.invokeAll(lookups, deadline.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new HashMap<>();
+        }
+
+        Map<Long, String> names = new HashMap<>();
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                String name = results.get(i).get();
+                if (name != null) {
+                    names.put(orderedIds.get(i), name);
+                }
+            } catch (CancellationException | ExecutionException e) {
+                // Timed out or failed lookups leave the club name unresolved
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,173 @@
+package com.tennistournament.client;
+
+import com.tennistournament.client.dto.ClubResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory snapshot of all tennis clubs
+ * Loaded with getAllClubs once the application has started and refreshed in the background;
+ * refreshes send the last ETag so an unchanged club list is not downloaded again.
+ * Lookups never call the club service. A club missing from the snapshot may have been created
+ * since the last refresh, so callers fall back to a remote lookup for it, as they do when the
+ * snapshot is older than the configured maximum staleness.
+ */
+@Component
+public class ClubRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(ClubRegistry.class);
+
+    private final ClubServiceClient clubServiceClient;
+    private final boolean enabled;
+    private final Duration refreshInterval;
+    private final long maxStalenessNanos;
+    private final ScheduledExecutorService refreshExecutor;
+    private final Counter modifiedRefreshes;
+    private final Counter unmodifiedRefreshes;
+    private final Counter failedRefreshes;
+    private volatile Snapshot snapshot;
+
+    public ClubRegistry(ClubServiceClient clubServiceClient,
+                        MeterRegistry meterRegistry,
+                        @Value("${club.registry.enabled:true}") boolean enabled,
+                        @Value("${club.registry.refresh-interval:30s}") Duration refreshInterval,
+                        @Value("${club.registry.max-staleness:5m}") Duration maxStaleness) {
+        this.clubServiceClient = clubServiceClient;
+        this.enabled = enabled;
+        this.refreshInterval = refreshInterval;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "club-registry-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.modifiedRefreshes = refreshes(meterRegistry, "modified");
+        this.unmodifiedRefreshes = refreshes(meterRegistry, "not_modified");
+        this.failedRefreshes = refreshes(meterRegistry, "failed");
+        Gauge.builder("club.registry.staleness", this, ClubRegistry::getStalenessSeconds)
+                .description("Time since the club snapshot was last confirmed by the club service")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("club.registry.size", this,
+                        registry -> registry.snapshot != null ? registry.snapshot.clubs.size() : 0)
+                .description("Clubs in the local club snapshot")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Load the snapshot once the application has started, then keep it fresh in the background
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        refresh();
+        refreshExecutor.scheduleWithFixedDelay(this::refresh, refreshInterval.toMillis(),
+                refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * Club from the snapshot, or null if it is not in the snapshot or the snapshot is too stale to use
+     */
+    public ClubResponse getClub(Long clubId) {
+        Snapshot current = snapshot;
+        if (clubId == null || current == null || System.nanoTime() - current.confirmedAt > maxStalenessNanos) {
+            return null;
+        }
+        return current.clubs.get(clubId);
+    }
+
+    /**
+     * Download the club list unless it is unchanged since the last refresh
+     * Failures keep the current snapshot
+     */
+    public void refresh() {
+        Snapshot current = snapshot;
+        try {
+            ResponseEntity<List<ClubResponse>> response =
+                    clubServiceClient.getAllClubs(current != null ? current.etag : null);
+            if (response == null || !response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+                failedRefreshes.increment();
+                return;
+            }
+            Map<Long, ClubResponse> clubs = new HashMap<>();
+            for (ClubResponse club : response.getBody()) {
+                if (club.getId() != null) {
+                    clubs.put(club.getId(), club);
+                }
+            }
+            snapshot = new Snapshot(Map.copyOf(clubs), response.getHeaders().getETag(), System.nanoTime());
+            modifiedRefreshes.increment();
+        } catch (ResponseStatusException e) {
+            if (e.getStatusCode().value() == HttpStatus.NOT_MODIFIED.value() && current != null) {
+                snapshot = new Snapshot(current.clubs, current.etag, System.nanoTime());
+                unmodifiedRefreshes.increment();
+                return;
+            }
+            failedRefresh(e);
+        } catch (RuntimeException e) {
+            failedRefresh(e);
+        }
+    }
+
+    private void failedRefresh(RuntimeException e) {
+        failedRefreshes.increment();
+        log.warn("Club snapshot refresh failed, keeping the current snapshot: {}", e.getMessage());
+    }
+
+    private double getStalenessSeconds() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Double.NaN;
+        }
+        return (System.nanoTime() - current.confirmedAt) / 1_000_000_000.0;
+    }
+
+    private static Counter refreshes(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("club.registry.refreshes")
+                .description("Club snapshot refreshes by outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Clubs by ID with the ETag they were served with and when the club service last confirmed them
+     */
+    private static final class Snapshot {
+        private final Map<Long, ClubResponse> clubs;
+        private final String etag;
+        private final long confirmedAt;
+
+        private Snapshot(Map<Long, ClubResponse> clubs, String etag, long confirmedAt) {
+            this.clubs = clubs;
+            this.etag = etag;
+            this.confirmedAt = confirmedAt;
+        }
+    }
+}
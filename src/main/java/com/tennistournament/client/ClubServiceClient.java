@@ -2,20 +2,25 @@ package com.tennistournament.client;
 
 import com.tennistournament.client.dto.ClubResponse;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 
 import java.util.List;
 
 /**
  * Feign client for communicating with tennis-club-service microservice
  * Service URL: http://localhost:8081
+ * The raw Feign proxy is not primary; services get the decorated client from ClubClientConfig
  */
 @FeignClient(
     name = "tennis-club-service",
     url = "${club.service.url:http://localhost:8081}",
-    fallback = ClubServiceClientFallback.class
+    fallback = ClubServiceClientFallback.class,
+    primary = false,
+    qualifiers = "clubServiceFeignClient"
 )
 public interface ClubServiceClient {
 
@@ -25,6 +30,14 @@ public interface ClubServiceClient {
     @GetMapping("/api/clubs")
     ResponseEntity<List<ClubResponse>> getAllClubs();
 
+    /**
+     * Get all clubs unless they still match the given ETag
+     * A 304 answer surfaces as ResponseStatusException with status NOT_MODIFIED
+     */
+    @GetMapping("/api/clubs")
+    ResponseEntity<List<ClubResponse>> getAllClubs(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
+
     /**
      * Get club by ID
      */
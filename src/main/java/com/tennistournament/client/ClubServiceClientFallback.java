@@ -11,7 +11,7 @@ import java.util.List;
 
 /**
  * Fallback implementation for ClubServiceClient
- * Used when club service is unavailable (circuit breaker pattern)
+ * Used when club service is unavailable (circuit breaker pattern), see ResilientClubServiceClient
  */
 @Component
 public class ClubServiceClientFallback implements ClubServiceClient {
@@ -22,6 +22,12 @@ public class ClubServiceClientFallback implements ClubServiceClient {
         return ResponseEntity.ok(new ArrayList<>());
     }
 
+    @Override
+    public ResponseEntity<List<ClubResponse>> getAllClubs(String ifNoneMatch) {
+        // Return 503 status so a club snapshot is kept rather than replaced by an empty list
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
+
     @Override
     public ResponseEntity<ClubResponse> getClubById(Long id) {
         // Return 503 status when service is unavailable
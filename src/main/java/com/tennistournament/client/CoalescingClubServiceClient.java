@@ -0,0 +1,92 @@
+package com.tennistournament.client;
+
+import com.tennistournament.client.dto.ClubResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight decorator for ClubServiceClient
+ * Concurrent callers asking for the same club share one in-flight request and its result or exception.
+ * Nothing is kept once the request completes, so callers never see a result older than their own call.
+ */
+public class CoalescingClubServiceClient implements ClubServiceClient {
+
+    private final ClubServiceClient delegate;
+    private final Map<Long, CompletableFuture<ResponseEntity<ClubResponse>>> clubsInFlight = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<ResponseEntity<List<ClubResponse>>>> allClubsInFlight =
+            new ConcurrentHashMap<>(1);
+    private final Counter actualCalls;
+    private final Counter coalescedCalls;
+
+    public CoalescingClubServiceClient(ClubServiceClient delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.actualCalls = Counter.builder("club.client.coalescing")
+                .description("Club service lookups by whether they were sent or joined an in-flight request")
+                .tag("result", "actual")
+                .register(meterRegistry);
+        this.coalescedCalls = Counter.builder("club.client.coalescing")
+                .description("Club service lookups by whether they were sent or joined an in-flight request")
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ResponseEntity<List<ClubResponse>> getAllClubs() {
+        return singleFlight(allClubsInFlight, "all", delegate::getAllClubs);
+    }
+
+    @Override
+    public ResponseEntity<List<ClubResponse>> getAllClubs(String ifNoneMatch) {
+        return singleFlight(allClubsInFlight, "if-none-match:" + ifNoneMatch,
+                () -> delegate.getAllClubs(ifNoneMatch));
+    }
+
+    @Override
+    public ResponseEntity<ClubResponse> getClubById(Long id) {
+        return singleFlight(clubsInFlight, id, () -> delegate.getClubById(id));
+    }
+
+    private <K, T> T singleFlight(Map<K, CompletableFuture<T>> inFlight, K key, Supplier<T> call) {
+        CompletableFuture<T> own = new CompletableFuture<>();
+        CompletableFuture<T> existing = inFlight.putIfAbsent(key, own);
+        if (existing != null) {
+            coalescedCalls.increment();
+            return join(existing);
+        }
+
+        actualCalls.increment();
+        try {
+            T result = call.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            // Release immediately; the next caller starts a fresh request
+            inFlight.remove(key, own);
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.tennistournament.client;
+
+import com.tennistournament.client.dto.ClubResponse;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Resilience4j decorator for ClubServiceClient
+ * Calls pass the circuit breaker, the client-side rate limiter and a semaphore bulkhead in that order.
+ * A call that is not permitted is answered by ClubServiceClientFallback right away instead of
+ * waiting for the club service. Errors of permitted calls are recorded by the breaker and rethrown.
+ */
+public class ResilientClubServiceClient implements ClubServiceClient {
+
+    private static final Logger log = LoggerFactory.getLogger(ResilientClubServiceClient.class);
+
+    private final ClubServiceClient delegate;
+    private final ClubServiceClient fallback;
+    private final CircuitBreaker circuitBreaker;
+    private final RateLimiter rateLimiter;
+    private final Bulkhead bulkhead;
+    private final Counter circuitOpenRejections;
+    private final Counter rateLimitedRejections;
+    private final Counter bulkheadFullRejections;
+
+    public ResilientClubServiceClient(ClubServiceClient delegate,
+                                      ClubServiceClient fallback,
+                                      CircuitBreaker circuitBreaker,
+                                      RateLimiter rateLimiter,
+                                      Bulkhead bulkhead,
+                                      MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.fallback = fallback;
+        this.circuitBreaker = circuitBreaker;
+        this.rateLimiter = rateLimiter;
+        this.bulkhead = bulkhead;
+        this.circuitOpenRejections = rejections(meterRegistry, "circuit_open");
+        this.rateLimitedRejections = rejections(meterRegistry, "rate_limited");
+        this.bulkheadFullRejections = rejections(meterRegistry, "bulkhead_full");
+
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            log.warn("Club service circuit breaker changed from {} to {}",
+                    event.getStateTransition().getFromState(), event.getStateTransition().getToState());
+            meterRegistry.counter("club.client.circuitbreaker.transitions",
+                    "from", event.getStateTransition().getFromState().name(),
+                    "to", event.getStateTransition().getToState().name()).increment();
+        });
+    }
+
+    /**
+     * Client errors such as 404 and 304 answers describe the request, not the health of the club service,
+     * and local rejections never reached it; neither should open the circuit breaker
+     */
+    public static boolean isIgnoredFailure(Throwable error) {
+        if (error instanceof ResponseStatusException e) {
+            return e.getStatusCode().is4xxClientError() || e.getStatusCode().is3xxRedirection();
+        }
+        return error instanceof BulkheadFullException || error instanceof RequestNotPermitted;
+    }
+
+    @Override
+    public ResponseEntity<List<ClubResponse>> getAllClubs() {
+        return call(delegate::getAllClubs, fallback::getAllClubs);
+    }
+
+    @Override
+    public ResponseEntity<List<ClubResponse>> getAllClubs(String ifNoneMatch) {
+        return call(() -> delegate.getAllClubs(ifNoneMatch), () -> fallback.getAllClubs(ifNoneMatch));
+    }
+
+    @Override
+    public ResponseEntity<ClubResponse> getClubById(Long id) {
+        return call(() -> delegate.getClubById(id), () -> fallback.getClubById(id));
+    }
+
+    private <T> T call(Supplier<T> call, Supplier<T> fallbackCall) {
+        Supplier<T> decorated = CircuitBreaker.decorateSupplier(circuitBreaker,
+                RateLimiter.decorateSupplier(rateLimiter,
+                        Bulkhead.decorateSupplier(bulkhead, call)));
+        try {
+            return decorated.get();
+        } catch (CallNotPermittedException e) {
+            circuitOpenRejections.increment();
+            return fallbackCall.get();
+        } catch (RequestNotPermitted e) {
+            rateLimitedRejections.increment();
+            return fallbackCall.get();
+        } catch (BulkheadFullException e) {
+            bulkheadFullRejections.increment();
+            return fallbackCall.get();
+        }
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("club.client.resilience.rejected")
+                .description("Club service calls answered by the fallback without reaching the club service")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,92 @@
+package com.tennistournament.config;
+
+import com.tennistournament.client.AdaptiveClubServiceClient;
+import com.tennistournament.client.CachingClubServiceClient;
+import com.tennistournament.client.ClubServiceClient;
+import com.tennistournament.client.ClubServiceClientFallback;
+import com.tennistournament.client.CoalescingClubServiceClient;
+import com.tennistournament.client.ResilientClubServiceClient;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.common.circuitbreaker.configuration.CircuitBreakerConfigCustomizer;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * Assembles the ClubServiceClient used by the services
+ * The raw Feign proxy is wrapped in decorators configured via club.* properties. Every outbound club call
+ * (name resolution, the club registry and the asynchronous lookups of the create flows) goes through
+ * this client, so the circuit breaker, rate limiter and bulkhead apply to all of them
+ */
+@Configuration
+public class ClubClientConfig {
+
+    private static final String RESILIENCE_INSTANCE = "clubServiceClient";
+
+    /**
+     * Primary club client: Feign proxy, then adaptive timeouts and hedging (opt-in), then circuit breaker,
+     * rate limiter and bulkhead, then single-flight coalescing, then the local club cache.
+     * Hedging sits below coalescing so a hedged request is really sent
+     */
+    @Bean
+    @Primary
+    public ClubServiceClient clubServiceClient(@Qualifier("clubServiceFeignClient") ClubServiceClient feignClient,
+                                               ClubServiceClientFallback fallback,
+                                               CircuitBreakerRegistry circuitBreakerRegistry,
+                                               RateLimiterRegistry rateLimiterRegistry,
+                                               BulkheadRegistry bulkheadRegistry,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${club.adaptive.enabled:false}") boolean adaptiveEnabled,
+                                               @Value("${club.adaptive.min-timeout:100ms}") Duration minTimeout,
+                                               @Value("${feign.client.config.default.readTimeout:10000}") long readTimeoutMillis,
+                                               @Value("${club.adaptive.headroom:100ms}") Duration headroom,
+                                               @Value("${club.adaptive.window:1m}") Duration window,
+                                               @Value("${club.adaptive.min-samples:100}") long minSamples,
+                                               @Value("${club.adaptive.hedging.enabled:false}") boolean hedgingEnabled,
+                                               @Value("${club.adaptive.max-concurrency:64}") int maxConcurrency,
+                                               @Value("${club.resilience.enabled:true}") boolean resilienceEnabled,
+                                               @Value("${club.coalescing.enabled:true}") boolean coalescingEnabled,
+                                               @Value("${club.cache.enabled:true}") boolean cacheEnabled,
+                                               @Value("${club.cache.maximum-size:1000}") long maximumSize,
+                                               @Value("${club.cache.ttl:10m}") Duration ttl,
+                                               @Value("${club.cache.max-stale:1h}") Duration maxStale,
+                                               @Value("${club.cache.negative-ttl:1m}") Duration negativeTtl,
+                                               @Value("${club.cache.refresh-concurrency:4}") int refreshConcurrency) {
+        ClubServiceClient client = feignClient;
+        if (adaptiveEnabled) {
+            client = new AdaptiveClubServiceClient(client, minTimeout, Duration.ofMillis(readTimeoutMillis), headroom,
+                    window, minSamples, hedgingEnabled, maxConcurrency, meterRegistry);
+        }
+        if (resilienceEnabled) {
+            client = new ResilientClubServiceClient(client, fallback,
+                    circuitBreakerRegistry.circuitBreaker(RESILIENCE_INSTANCE),
+                    rateLimiterRegistry.rateLimiter(RESILIENCE_INSTANCE),
+                    bulkheadRegistry.bulkhead(RESILIENCE_INSTANCE),
+                    meterRegistry);
+        }
+        if (coalescingEnabled) {
+            client = new CoalescingClubServiceClient(client, meterRegistry);
+        }
+        if (cacheEnabled) {
+            client = new CachingClubServiceClient(client, maximumSize, ttl, maxStale, negativeTtl,
+                    refreshConcurrency, meterRegistry);
+        }
+        return client;
+    }
+
+    /**
+     * Only server errors, timeouts and connection failures count against the club service circuit breaker
+     */
+    @Bean
+    public CircuitBreakerConfigCustomizer clubServiceCircuitBreakerCustomizer() {
+        return CircuitBreakerConfigCustomizer.of(RESILIENCE_INSTANCE,
+                builder -> builder.ignoreException(ResilientClubServiceClient::isIgnoredFailure));
+    }
+}
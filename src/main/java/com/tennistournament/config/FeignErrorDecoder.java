@@ -17,6 +17,11 @@ public class FeignErrorDecoder implements ErrorDecoder {
     public Exception decode(String methodKey, Response response) {
         HttpStatus status = HttpStatus.valueOf(response.status());
         
+        // For 304 answers to conditional requests, the caller keeps its current copy
+        if (status == HttpStatus.NOT_MODIFIED) {
+            return new ResponseStatusException(HttpStatus.NOT_MODIFIED, "Not modified: " + methodKey);
+        }
+        
         // For 404 errors, throw ResponseStatusException with 404 status
         if (status == HttpStatus.NOT_FOUND) {
             String message = String.format("Resource not found: %s", methodKey);
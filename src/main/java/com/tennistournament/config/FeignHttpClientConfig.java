@@ -0,0 +1,127 @@
+package com.tennistournament.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.client5.http.socket.ConnectionSocketFactory;
+import org.apache.hc.client5.http.socket.PlainConnectionSocketFactory;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
+import org.apache.hc.core5.config.RegistryBuilder;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Pooled Apache HttpClient 5 transport for the Feign clients
+ * Spring Cloud OpenFeign uses this CloseableHttpClient instead of building its own, so pool size,
+ * keep-alive and idle eviction come from club.http.* properties. Pool usage is exported as
+ * httpcomponents.httpclient.pool.* gauges and the time spent waiting for a connection as club.http.pool.lease.
+ * Disabled together with spring.cloud.openfeign.httpclient.hc5.enabled, e.g. to use the HTTP/2 client
+ */
+@Configuration
+@ConditionalOnProperty(value = "spring.cloud.openfeign.httpclient.hc5.enabled", matchIfMissing = true)
+public class FeignHttpClientConfig {
+
+    @Bean
+    public PoolingHttpClientConnectionManager feignConnectionManager(
+            MeterRegistry meterRegistry,
+            @Value("${club.http.max-connections:200}") int maxConnections,
+            @Value("${club.http.max-connections-per-route:50}") int maxConnectionsPerRoute,
+            @Value("${club.http.time-to-live:15m}") Duration timeToLive,
+            @Value("${feign.client.config.default.connectTimeout:5000}") long connectTimeoutMillis) {
+        PoolingHttpClientConnectionManager connectionManager = new InstrumentedConnectionManager(meterRegistry);
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                .setTimeToLive(TimeValue.ofMilliseconds(timeToLive.toMillis()))
+                .build());
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "feign").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean
+    public CloseableHttpClient feignHttpClient(
+            PoolingHttpClientConnectionManager feignConnectionManager,
+            @Value("${club.http.connection-request-timeout:2s}") Duration connectionRequestTimeout,
+            @Value("${club.http.idle-timeout:30s}") Duration idleTimeout,
+            @Value("${club.http.keep-alive:1m}") Duration keepAlive) {
+        TimeValue maxKeepAlive = TimeValue.ofMilliseconds(keepAlive.toMillis());
+        return HttpClients.custom()
+                .setConnectionManager(feignConnectionManager)
+                .disableCookieManagement()
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeout.toMillis()))
+                        .build())
+                // Keep connections as long as the server allows, but never longer than club.http.keep-alive
+                .setKeepAliveStrategy((response, context) -> {
+                    TimeValue serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE
+                            .getKeepAliveDuration(response, context);
+                    return serverKeepAlive.toMilliseconds() < maxKeepAlive.toMilliseconds()
+                            ? serverKeepAlive : maxKeepAlive;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleTimeout.toMillis()))
+                .build();
+    }
+
+    /**
+     * Connection manager that records how long callers wait to lease a pooled connection
+     */
+    private static final class InstrumentedConnectionManager extends PoolingHttpClientConnectionManager {
+        private final Timer leaseTimer;
+
+        private InstrumentedConnectionManager(MeterRegistry meterRegistry) {
+            super(RegistryBuilder.<ConnectionSocketFactory>create()
+                            .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                            .register("https", SSLConnectionSocketFactory.getSocketFactory())
+                            .build(),
+                    PoolConcurrencyPolicy.STRICT, PoolReusePolicy.LIFO, TimeValue.NEG_ONE_MILLISECOND);
+            this.leaseTimer = Timer.builder("club.http.pool.lease")
+                    .description("Time spent waiting for a pooled HTTP connection")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+
+        @Override
+        public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+            LeaseRequest leaseRequest = super.lease(id, route, requestTimeout, state);
+            return new LeaseRequest() {
+                @Override
+                public ConnectionEndpoint get(Timeout timeout)
+                        throws InterruptedException, ExecutionException, TimeoutException {
+                    long start = System.nanoTime();
+                    try {
+                        return leaseRequest.get(timeout);
+                    } finally {
+                        leaseTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                }
+
+                @Override
+                public boolean cancel() {
+                    return leaseRequest.cancel();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.tennistournament.config;
+
+import com.tennistournament.metrics.JdbcTimingSessionListener;
+import com.tennistournament.metrics.RequestMetricsInterceptor;
+import com.tennistournament.metrics.RequestMetricsInterceptor.BudgetAction;
+import com.tennistournament.metrics.StatementCountingInspector;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Per-request metrics: SQL statements, JDBC time and participants loaded for every /api request
+ * Requests are checked against their SQL statement budget (@SqlBudget or sql.budget.max-statements)
+ * Service timers come from @Timed on the service implementations, Feign timers from feign-micrometer
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+    private final BudgetAction budgetAction;
+    private final int repeatedStatementThreshold;
+
+    public MetricsConfig(MeterRegistry meterRegistry,
+                         @Value("${sql.budget.max-statements:50}") int maxStatements,
+                         @Value("${sql.budget.action:LOG}") BudgetAction budgetAction,
+                         @Value("${sql.budget.repeated-statement-threshold:10}") int repeatedStatementThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.budgetAction = budgetAction;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    /**
+     * Count statements through Hibernate's StatementInspector and time their execution with a session listener
+     */
+    @Bean
+    public HibernatePropertiesCustomizer statementCountingCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCountingInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimingSessionListener.class.getName());
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RequestMetricsInterceptor(meterRegistry, maxStatements, budgetAction,
+                        repeatedStatementThreshold))
+                .addPathPatterns("/api/**");
+    }
+}
@@ -1,28 +1,56 @@
 package com.tennistournament.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennistournament.dto.BulkTournamentResult;
+import com.tennistournament.dto.RegistrationTicketResponse;
 import com.tennistournament.dto.TournamentRequest;
 import com.tennistournament.dto.TournamentResponse;
+import com.tennistournament.metrics.SqlBudget;
+import com.tennistournament.service.BurstRegistrationService;
 import com.tennistournament.service.TournamentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api")
 @Tag(name = "Tournament Management", description = "API endpoints for managing tournaments")
 public class TournamentController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int DEFAULT_PAGE_LIMIT = 50;
+    private static final int MAX_PAGE_LIMIT = 500;
+    private static final int MAX_BULK_SIZE = 1000;
+
     private final TournamentService tournamentService;
+    private final BurstRegistrationService burstRegistrationService;
+    private final ObjectMapper objectMapper;
+    private final Duration burstWaitTimeout;
 
-    public TournamentController(TournamentService tournamentService) {
+    public TournamentController(TournamentService tournamentService,
+                                BurstRegistrationService burstRegistrationService,
+                                ObjectMapper objectMapper,
+                                @Value("${registration.burst.wait-timeout:30s}") Duration burstWaitTimeout) {
         this.tournamentService = tournamentService;
+        this.burstRegistrationService = burstRegistrationService;
+        this.objectMapper = objectMapper;
+        this.burstWaitTimeout = burstWaitTimeout;
     }
 
     @PostMapping("/clubs/{clubId}/tournaments")
@@ -38,15 +66,72 @@ public class TournamentController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/clubs/{clubId}/tournaments/bulk")
+    @Operation(summary = "Create tournaments in bulk", description = "Creates up to " + MAX_BULK_SIZE + " tournaments for a "
+            + "specific tennis club with one club check and batched inserts. Returns one result per item, in request order; "
+            + "invalid items are rejected without affecting the others")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "All tournaments created successfully"),
+        @ApiResponse(responseCode = "207", description = "Some tournaments were rejected, see the per-item results"),
+        @ApiResponse(responseCode = "400", description = "Empty or too large batch"),
+        @ApiResponse(responseCode = "404", description = "Tennis club not found")
+    })
+    public ResponseEntity<List<BulkTournamentResult>> createTournaments(@PathVariable Long clubId,
+                                                                        @RequestBody List<TournamentRequest> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_BULK_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Bulk requests must contain between 1 and " + MAX_BULK_SIZE + " tournaments");
+        }
+
+        List<BulkTournamentResult> results = tournamentService.createTournaments(clubId, requests);
+        boolean allCreated = results.stream().allMatch(result -> "CREATED".equals(result.getStatus()));
+        return ResponseEntity.status(allCreated ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS).body(results);
+    }
+
     @GetMapping("/tournaments")
-    @Operation(summary = "Get all tournaments", description = "Retrieves a list of all tournaments, optionally filtered by club ID")
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved list of tournaments")
-    public ResponseEntity<List<TournamentResponse>> getAllTournaments(@RequestParam(required = false) Long clubId) {
-        List<TournamentResponse> tournaments = tournamentService.getAllTournaments(clubId);
-        return ResponseEntity.ok(tournaments);
+    @SqlBudget(maxStatements = 5)
+    @Operation(summary = "Get all tournaments", description = "Retrieves a list of all tournaments, optionally filtered by club ID. "
+            + "When 'after' or 'limit' is given, returns one page ordered by ID; the ID to pass as 'after' for the next page "
+            + "is returned in the " + NEXT_CURSOR_HEADER + " header")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved list of tournaments"),
+        @ApiResponse(responseCode = "400", description = "Invalid page limit")
+    })
+    public ResponseEntity<List<TournamentResponse>> getAllTournaments(@RequestParam(required = false) Long clubId,
+                                                                      @RequestParam(required = false) Long after,
+                                                                      @RequestParam(required = false) Integer limit) {
+        if (after == null && limit == null) {
+            List<TournamentResponse> tournaments = tournamentService.getAllTournaments(clubId);
+            return ResponseEntity.ok(tournaments);
+        }
+
+        int pageLimit = limit != null ? limit : DEFAULT_PAGE_LIMIT;
+        if (pageLimit < 1 || pageLimit > MAX_PAGE_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, 
+                    "Limit must be between 1 and " + MAX_PAGE_LIMIT);
+        }
+
+        List<TournamentResponse> page = tournamentService.getTournamentsPage(clubId, after, pageLimit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.size() == pageLimit) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(page.get(page.size() - 1).getId()));
+        }
+        return response.body(page);
+    }
+
+    @GetMapping(value = "/tournaments/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all tournaments", description = "Streams all tournaments ordered by ID as newline-delimited JSON, optionally filtered by club ID")
+    @ApiResponse(responseCode = "200", description = "Successfully streamed tournaments")
+    public ResponseEntity<StreamingResponseBody> streamAllTournaments(@RequestParam(required = false) Long clubId) {
+        StreamingResponseBody body = outputStream -> tournamentService.streamTournaments(clubId,
+                chunk -> writeNdjsonChunk(outputStream, chunk));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping("/tournaments/{id}")
+    @SqlBudget(maxStatements = 5)
     @Operation(summary = "Get tournament by ID", description = "Retrieves a specific tournament by its ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Tournament found"),
@@ -58,16 +143,30 @@ public class TournamentController {
     }
 
     @PostMapping("/tournaments/{tournamentId}/register/{userId}")
-    @Operation(summary = "Register user for tournament", description = "Registers a user for a specific tournament")
+    @Operation(summary = "Register user for tournament", description = "Registers a user for a specific tournament. "
+            + "In burst mode the registration is queued and 202 is returned with the queue position, "
+            + "unless wait=true is given, in which case the call waits for the registration to be persisted")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "User successfully registered for tournament"),
+        @ApiResponse(responseCode = "202", description = "Registration queued (burst mode)"),
         @ApiResponse(responseCode = "404", description = "Tournament or user not found"),
         @ApiResponse(responseCode = "409", description = "Tournament is full or user already registered")
     })
-    public ResponseEntity<Void> registerUserForTournament(@PathVariable Long tournamentId, 
-                                                          @PathVariable Long userId) {
-        tournamentService.registerUserForTournament(tournamentId, userId);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<RegistrationTicketResponse> registerUserForTournament(@PathVariable Long tournamentId, 
+                                                                                @PathVariable Long userId,
+                                                                                @RequestParam(defaultValue = "false") boolean wait) {
+        Optional<BurstRegistrationService.Ticket> ticket = burstRegistrationService.trySubmit(tournamentId, userId);
+        if (ticket.isEmpty()) {
+            tournamentService.registerUserForTournament(tournamentId, userId);
+            return ResponseEntity.ok().build();
+        }
+
+        if (wait && ticket.get().awaitCompletion(burstWaitTimeout)) {
+            return ResponseEntity.ok(new RegistrationTicketResponse(tournamentId, userId, 
+                    ticket.get().getPosition(), "REGISTERED"));
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(new RegistrationTicketResponse(tournamentId, userId, 
+                ticket.get().getPosition(), "QUEUED"));
     }
 
     @DeleteMapping("/tournaments/{tournamentId}/register/{userId}")
@@ -79,7 +178,40 @@ public class TournamentController {
     public ResponseEntity<Void> unregisterUserFromTournament(@PathVariable Long tournamentId, 
                                                               @PathVariable Long userId) {
         tournamentService.unregisterUserFromTournament(tournamentId, userId);
+        burstRegistrationService.seatReleased(tournamentId);
         return ResponseEntity.ok().build();
     }
-}
 
+    @PutMapping("/tournaments/{tournamentId}/burst-mode")
+    @Operation(summary = "Enable registration burst mode", description = "Queues registrations for a tournament in memory "
+            + "and persists them in batches; intended for the moment registration opens")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Burst mode enabled"),
+        @ApiResponse(responseCode = "404", description = "Tournament not found")
+    })
+    public ResponseEntity<Void> enableBurstMode(@PathVariable Long tournamentId) {
+        burstRegistrationService.enable(tournamentId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/tournaments/{tournamentId}/burst-mode")
+    @Operation(summary = "Disable registration burst mode", description = "Stops queueing registrations; "
+            + "already queued registrations are still persisted")
+    @ApiResponse(responseCode = "204", description = "Burst mode disabled")
+    public ResponseEntity<Void> disableBurstMode(@PathVariable Long tournamentId) {
+        burstRegistrationService.disable(tournamentId);
+        return ResponseEntity.noContent().build();
+    }
+
+    private void writeNdjsonChunk(OutputStream outputStream, List<TournamentResponse> chunk) {
+        try {
+            for (TournamentResponse tournament : chunk) {
+                outputStream.write(objectMapper.writeValueAsBytes(tournament));
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
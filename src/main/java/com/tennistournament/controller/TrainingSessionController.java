@@ -2,6 +2,7 @@ package com.tennistournament.controller;
 
 import com.tennistournament.dto.TrainingSessionRequest;
 import com.tennistournament.dto.TrainingSessionResponse;
+import com.tennistournament.metrics.SqlBudget;
 import com.tennistournament.service.TrainingSessionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -39,6 +40,7 @@ public class TrainingSessionController {
     }
 
     @GetMapping("/trainings")
+    @SqlBudget(maxStatements = 5)
     @Operation(summary = "Get all training sessions", description = "Retrieves a list of all training sessions, optionally filtered by club ID")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved list of training sessions")
     public ResponseEntity<List<TrainingSessionResponse>> getAllTrainingSessions(@RequestParam(required = false) Long clubId) {
@@ -47,6 +49,7 @@ public class TrainingSessionController {
     }
 
     @GetMapping("/trainings/{id}")
+    @SqlBudget(maxStatements = 5)
     @Operation(summary = "Get training session by ID", description = "Retrieves a specific training session by its ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Training session found"),
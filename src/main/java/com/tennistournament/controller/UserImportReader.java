@@ -0,0 +1,198 @@
+package com.tennistournament.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennistournament.dto.UserImportLine;
+import com.tennistournament.dto.UserProfileRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads a user import body one line at a time, either NDJSON (one user object per line) or CSV with a
+ * header row naming the username, email, firstName, lastName and skillLevel columns
+ * Blank lines are skipped. A line that cannot be parsed becomes a malformed UserImportLine instead of
+ * failing the whole import. Line numbers are the physical line numbers of the body.
+ */
+class UserImportReader implements Iterator<UserImportLine> {
+
+    private static final String[] CSV_COLUMNS = {"username", "email", "firstname", "lastname", "skilllevel"};
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private final int[] csvColumnIndexes;
+    private final int csvColumnCount;
+    private int lineNumber;
+    private UserImportLine next;
+
+    private UserImportReader(BufferedReader reader, ObjectMapper objectMapper, int[] csvColumnIndexes,
+                             int csvColumnCount, int lineNumber) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+        this.csvColumnIndexes = csvColumnIndexes;
+        this.csvColumnCount = csvColumnCount;
+        this.lineNumber = lineNumber;
+    }
+
+    static UserImportReader ndjson(InputStream body, ObjectMapper objectMapper) {
+        return new UserImportReader(open(body), objectMapper, null, 0, 0);
+    }
+
+    /**
+     * Reads the header row right away, so a body without username and email columns is rejected
+     * with 400 before any result is streamed
+     */
+    static UserImportReader csv(InputStream body) {
+        BufferedReader reader = open(body);
+        String header = readLine(reader);
+        if (header == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV header row is required");
+        }
+        List<String> names;
+        try {
+            names = parseCsvLine(stripByteOrderMark(header));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Malformed CSV header: " + e.getMessage());
+        }
+        int[] columnIndexes = new int[CSV_COLUMNS.length];
+        for (int column = 0; column < CSV_COLUMNS.length; column++) {
+            columnIndexes[column] = -1;
+            for (int i = 0; i < names.size(); i++) {
+                if (CSV_COLUMNS[column].equals(names.get(i).strip().replace("_", "").toLowerCase(Locale.ROOT))) {
+                    columnIndexes[column] = i;
+                }
+            }
+        }
+        if (columnIndexes[0] < 0 || columnIndexes[1] < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "CSV header must contain username and email columns");
+        }
+        return new UserImportReader(reader, null, columnIndexes, names.size(), 1);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public UserImportLine next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        UserImportLine line = next;
+        next = null;
+        return line;
+    }
+
+    private UserImportLine readNext() {
+        String line;
+        while ((line = readLine(reader)) != null) {
+            lineNumber++;
+            if (lineNumber == 1) {
+                line = stripByteOrderMark(line);
+            }
+            if (!line.isBlank()) {
+                return csvColumnIndexes != null ? parseCsv(line) : parseNdjson(line);
+            }
+        }
+        return null;
+    }
+
+    private UserImportLine parseNdjson(String line) {
+        try {
+            return UserImportLine.parsed(lineNumber, objectMapper.readValue(line, UserProfileRequest.class));
+        } catch (JsonProcessingException e) {
+            return UserImportLine.malformed(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private UserImportLine parseCsv(String line) {
+        List<String> fields;
+        try {
+            fields = parseCsvLine(line);
+        } catch (IllegalArgumentException e) {
+            return UserImportLine.malformed(lineNumber, "Malformed CSV: " + e.getMessage());
+        }
+        if (fields.size() != csvColumnCount) {
+            return UserImportLine.malformed(lineNumber,
+                    "Malformed CSV: expected " + csvColumnCount + " columns but found " + fields.size());
+        }
+        return UserImportLine.parsed(lineNumber, new UserProfileRequest(field(fields, 0), field(fields, 1),
+                field(fields, 2), field(fields, 3), field(fields, 4)));
+    }
+
+    // Empty and missing optional columns are null
+    private String field(List<String> fields, int column) {
+        int index = csvColumnIndexes[column];
+        if (index < 0) {
+            return null;
+        }
+        String value = fields.get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Split one CSV line on commas; fields may be quoted, with "" for a literal quote
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static BufferedReader open(InputStream body) {
+        return new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    }
+
+    private static String readLine(BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String stripByteOrderMark(String line) {
+        return line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+}
@@ -1,7 +1,11 @@
 package com.tennistournament.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennistournament.dto.UserImportResult;
 import com.tennistournament.dto.UserProfileRequest;
 import com.tennistournament.dto.UserProfileResponse;
+import com.tennistournament.dto.UserSearchResult;
+import com.tennistournament.metrics.SqlBudget;
 import com.tennistournament.service.UserProfileService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -9,20 +13,38 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/users")
 @Tag(name = "User Profile Management", description = "API endpoints for managing user profiles")
 public class UserProfileController {
 
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int DEFAULT_PAGE_LIMIT = 50;
+    private static final int MAX_PAGE_LIMIT = 500;
+    private static final int DEFAULT_SEARCH_LIMIT = 10;
+    private static final int MAX_SEARCH_LIMIT = 50;
+
     private final UserProfileService userProfileService;
+    private final ObjectMapper objectMapper;
 
-    public UserProfileController(UserProfileService userProfileService) {
+    public UserProfileController(UserProfileService userProfileService,
+                                 ObjectMapper objectMapper) {
         this.userProfileService = userProfileService;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -37,15 +59,89 @@ public class UserProfileController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Import user profiles from NDJSON", description = "Creates user profiles from one JSON object "
+            + "per line. The body is parsed while it is read and users are inserted in batches; one result per "
+            + "line is streamed back as newline-delimited JSON")
+    @ApiResponse(responseCode = "200", description = "Import processed; each result is CREATED or REJECTED with the error")
+    public ResponseEntity<StreamingResponseBody> importUsersFromNdjson(InputStream body) {
+        return streamImport(UserImportReader.ndjson(body, objectMapper));
+    }
+
+    @PostMapping(value = "/import", consumes = TEXT_CSV_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Import user profiles from CSV", description = "Creates user profiles from CSV lines after a "
+            + "header row naming the username, email, firstName, lastName and skillLevel columns. The body is parsed "
+            + "while it is read and users are inserted in batches; one result per line is streamed back as "
+            + "newline-delimited JSON")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import processed; each result is CREATED or REJECTED with the error"),
+        @ApiResponse(responseCode = "400", description = "Missing or invalid CSV header row")
+    })
+    public ResponseEntity<StreamingResponseBody> importUsersFromCsv(InputStream body) {
+        return streamImport(UserImportReader.csv(body));
+    }
+
     @GetMapping
-    @Operation(summary = "Get all user profiles", description = "Retrieves a list of all user profiles")
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved list of user profiles")
-    public ResponseEntity<List<UserProfileResponse>> getAllUsers() {
-        List<UserProfileResponse> users = userProfileService.getAllUsers();
-        return ResponseEntity.ok(users);
+    @SqlBudget(maxStatements = 5)
+    @Operation(summary = "Get all user profiles", description = "Retrieves all user profiles, or one page of them "
+            + "ordered by ID when after or limit is given; the X-Next-Cursor header holds the after value for the "
+            + "next page. fields selects a subset of the response fields, e.g. fields=id,username; registration "
+            + "IDs are only loaded when registeredTournamentIds or registeredTrainingSessionIds is selected")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved list of user profiles"),
+        @ApiResponse(responseCode = "400", description = "Invalid limit or unknown field")
+    })
+    public ResponseEntity<List<?>> getAllUsers(@RequestParam(required = false) Long after,
+                                               @RequestParam(required = false) Integer limit,
+                                               @RequestParam(required = false) List<String> fields) {
+        if (after == null && limit == null && fields == null) {
+            List<UserProfileResponse> users = userProfileService.getAllUsers();
+            return ResponseEntity.ok(users);
+        }
+
+        Integer pageLimit = null;
+        if (after != null || limit != null) {
+            pageLimit = limit != null ? limit : DEFAULT_PAGE_LIMIT;
+            if (pageLimit < 1 || pageLimit > MAX_PAGE_LIMIT) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, 
+                        "Limit must be between 1 and " + MAX_PAGE_LIMIT);
+            }
+        }
+
+        List<Map<String, Object>> page = userProfileService.getUsers(after, pageLimit, fields);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (pageLimit != null && page.size() == pageLimit) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(page.get(page.size() - 1).get("id")));
+        }
+        return response.body(page);
+    }
+
+    @GetMapping("/search")
+    @SqlBudget(maxStatements = 0)
+    @Operation(summary = "Search user profiles", description = "Type-ahead search by prefixes of username, first name, "
+            + "last name and email, optionally filtered by skill level. Every word of q must match; results are "
+            + "ranked with username matches first. Served from an in-memory index without database access")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Best matching user profiles, highest score first"),
+        @ApiResponse(responseCode = "400", description = "Missing query or invalid limit")
+    })
+    public ResponseEntity<List<UserSearchResult>> searchUsers(@RequestParam String q,
+                                                              @RequestParam(required = false) String skillLevel,
+                                                              @RequestParam(required = false) Integer limit) {
+        if (q.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search query is required");
+        }
+        int resultLimit = limit != null ? limit : DEFAULT_SEARCH_LIMIT;
+        if (resultLimit < 1 || resultLimit > MAX_SEARCH_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, 
+                    "Limit must be between 1 and " + MAX_SEARCH_LIMIT);
+        }
+        return ResponseEntity.ok(userProfileService.searchUsers(q, skillLevel, resultLimit));
     }
 
     @GetMapping("/{id}")
+    @SqlBudget(maxStatements = 5)
     @Operation(summary = "Get user profile by ID", description = "Retrieves a specific user profile by its ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "User profile found"),
@@ -69,5 +165,24 @@ public class UserProfileController {
         UserProfileResponse response = userProfileService.updateUser(id, request);
         return ResponseEntity.ok(response);
     }
-}
 
+    private ResponseEntity<StreamingResponseBody> streamImport(UserImportReader lines) {
+        StreamingResponseBody body = outputStream -> userProfileService.importUsers(lines,
+                chunk -> writeNdjsonChunk(outputStream, chunk));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private void writeNdjsonChunk(OutputStream outputStream, List<UserImportResult> chunk) {
+        try {
+            for (UserImportResult result : chunk) {
+                outputStream.write(objectMapper.writeValueAsBytes(result));
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.tennistournament.dto;
+
+public class BulkTournamentResult {
+    private int index;
+    private String status; // "CREATED" or "REJECTED"
+    private String error;
+    private TournamentResponse tournament;
+
+    // Constructors
+    public BulkTournamentResult() {
+    }
+
+    public BulkTournamentResult(int index, String status, String error, TournamentResponse tournament) {
+        this.index = index;
+        this.status = status;
+        this.error = error;
+        this.tournament = tournament;
+    }
+
+    public static BulkTournamentResult created(int index, TournamentResponse tournament) {
+        return new BulkTournamentResult(index, "CREATED", null, tournament);
+    }
+
+    public static BulkTournamentResult rejected(int index, String error) {
+        return new BulkTournamentResult(index, "REJECTED", error, null);
+    }
+
+    // Getters and Setters
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public TournamentResponse getTournament() {
+        return tournament;
+    }
+
+    public void setTournament(TournamentResponse tournament) {
+        this.tournament = tournament;
+    }
+}
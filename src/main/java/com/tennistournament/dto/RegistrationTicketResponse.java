@@ -0,0 +1,52 @@
+package com.tennistournament.dto;
+
+public class RegistrationTicketResponse {
+    private Long tournamentId;
+    private Long userId;
+    private Integer queuePosition;
+    private String status; // "QUEUED" or "REGISTERED"
+
+    // Constructors
+    public RegistrationTicketResponse() {
+    }
+
+    public RegistrationTicketResponse(Long tournamentId, Long userId, Integer queuePosition, String status) {
+        this.tournamentId = tournamentId;
+        this.userId = userId;
+        this.queuePosition = queuePosition;
+        this.status = status;
+    }
+
+    // Getters and Setters
+    public Long getTournamentId() {
+        return tournamentId;
+    }
+
+    public void setTournamentId(Long tournamentId) {
+        this.tournamentId = tournamentId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Integer getQueuePosition() {
+        return queuePosition;
+    }
+
+    public void setQueuePosition(Integer queuePosition) {
+        this.queuePosition = queuePosition;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+}
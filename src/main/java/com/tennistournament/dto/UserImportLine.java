@@ -0,0 +1,53 @@
+package com.tennistournament.dto;
+
+/**
+ * One line of a user import: the parsed request, or why the line could not be parsed
+ */
+public class UserImportLine {
+    private int line;
+    private UserProfileRequest request;
+    private String error;
+
+    // Constructors
+    public UserImportLine() {
+    }
+
+    public UserImportLine(int line, UserProfileRequest request, String error) {
+        this.line = line;
+        this.request = request;
+        this.error = error;
+    }
+
+    public static UserImportLine parsed(int line, UserProfileRequest request) {
+        return new UserImportLine(line, request, null);
+    }
+
+    public static UserImportLine malformed(int line, String error) {
+        return new UserImportLine(line, null, error);
+    }
+
+    // Getters and Setters
+    public int getLine() {
+        return line;
+    }
+
+    public void setLine(int line) {
+        this.line = line;
+    }
+
+    public UserProfileRequest getRequest() {
+        return request;
+    }
+
+    public void setRequest(UserProfileRequest request) {
+        this.request = request;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,60 @@
+package com.tennistournament.dto;
+
+public class UserImportResult {
+    private int line;
+    private String status; // "CREATED" or "REJECTED"
+    private String error;
+    private UserProfileResponse user;
+
+    // Constructors
+    public UserImportResult() {
+    }
+
+    public UserImportResult(int line, String status, String error, UserProfileResponse user) {
+        this.line = line;
+        this.status = status;
+        this.error = error;
+        this.user = user;
+    }
+
+    public static UserImportResult created(int line, UserProfileResponse user) {
+        return new UserImportResult(line, "CREATED", null, user);
+    }
+
+    public static UserImportResult rejected(int line, String error) {
+        return new UserImportResult(line, "REJECTED", error, null);
+    }
+
+    // Getters and Setters
+    public int getLine() {
+        return line;
+    }
+
+    public void setLine(int line) {
+        this.line = line;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public UserProfileResponse getUser() {
+        return user;
+    }
+
+    public void setUser(UserProfileResponse user) {
+        this.user = user;
+    }
+}
@@ -0,0 +1,28 @@
+package com.tennistournament.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Thrown when a registration overlaps another event the user is already registered for
+ */
+public class SchedulingConflictException extends ResponseStatusException {
+
+    private final String conflictingEventType;
+    private final Long conflictingEventId;
+
+    public SchedulingConflictException(String conflictingEventType, Long conflictingEventId) {
+        super(HttpStatus.CONFLICT, "User is already registered for an overlapping " 
+                + conflictingEventType.toLowerCase().replace('_', ' ') + " with id: " + conflictingEventId);
+        this.conflictingEventType = conflictingEventType;
+        this.conflictingEventId = conflictingEventId;
+    }
+
+    public String getConflictingEventType() {
+        return conflictingEventType;
+    }
+
+    public Long getConflictingEventId() {
+        return conflictingEventId;
+    }
+}
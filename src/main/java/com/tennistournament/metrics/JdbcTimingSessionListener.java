@@ -0,0 +1,52 @@
+package com.tennistournament.metrics;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Adds the time Hibernate spends executing JDBC statements and batches to the current request,
+ * as well as the time spent waiting for and holding pooled connections
+ * Registered for every session via hibernate.session.events.auto, one instance per session
+ */
+public class JdbcTimingSessionListener extends BaseSessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+    private long acquisitionStart;
+    private long acquiredAt;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        acquisitionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        acquiredAt = System.nanoTime();
+        RequestMetrics.connectionAcquired(acquiredAt - acquisitionStart);
+    }
+
+    @Override
+    public void jdbcConnectionReleaseEnd() {
+        RequestMetrics.connectionReleased(System.nanoTime() - acquiredAt);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestMetrics.statementExecuted(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestMetrics.statementExecuted(System.nanoTime() - batchStart);
+    }
+}
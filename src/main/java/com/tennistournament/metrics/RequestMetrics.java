@@ -0,0 +1,137 @@
+package com.tennistournament.metrics;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counters collected while a single HTTP request is handled
+ * Bound to the request thread by RequestMetricsInterceptor; updates outside a request are ignored
+ */
+public final class RequestMetrics {
+
+    private static final ThreadLocal<RequestMetrics> CURRENT = new ThreadLocal<>();
+
+    private final int maxStatements;
+    private final boolean failOnBudgetExceeded;
+    private final Map<String, Integer> statementCounts = new HashMap<>();
+    private int statements;
+    private long jdbcNanos;
+    private long participantsLoaded;
+    private long connectionWaitNanos;
+    private long connectionHoldNanos;
+
+    private RequestMetrics(int maxStatements, boolean failOnBudgetExceeded) {
+        this.maxStatements = maxStatements;
+        this.failOnBudgetExceeded = failOnBudgetExceeded;
+    }
+
+    /**
+     * Bind new counters to the current thread
+     * With failOnBudgetExceeded, the statement exceeding maxStatements throws SqlBudgetExceededException
+     */
+    public static RequestMetrics start(int maxStatements, boolean failOnBudgetExceeded) {
+        RequestMetrics metrics = new RequestMetrics(maxStatements, failOnBudgetExceeded);
+        CURRENT.set(metrics);
+        return metrics;
+    }
+
+    /**
+     * Detach the counters of the current thread and return them, null outside a request
+     */
+    public static RequestMetrics end() {
+        RequestMetrics metrics = CURRENT.get();
+        CURRENT.remove();
+        return metrics;
+    }
+
+    public static void statementPrepared(String sql) {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics == null) {
+            return;
+        }
+        metrics.statements++;
+        metrics.statementCounts.merge(sql, 1, Integer::sum);
+        if (metrics.failOnBudgetExceeded && metrics.isOverBudget()) {
+            throw new SqlBudgetExceededException(metrics.statements, metrics.maxStatements);
+        }
+    }
+
+    public static void statementExecuted(long elapsedNanos) {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.jdbcNanos += elapsedNanos;
+        }
+    }
+
+    /**
+     * Record the time spent waiting for a pooled JDBC connection
+     */
+    public static void connectionAcquired(long waitNanos) {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.connectionWaitNanos += waitNanos;
+        }
+    }
+
+    /**
+     * Record how long a JDBC connection was held before it went back to the pool
+     */
+    public static void connectionReleased(long holdNanos) {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.connectionHoldNanos += holdNanos;
+        }
+    }
+
+    /**
+     * Record participant, attendee or registration rows loaded to build a response
+     */
+    public static void participantsLoaded(int count) {
+        RequestMetrics metrics = CURRENT.get();
+        if (metrics != null) {
+            metrics.participantsLoaded += count;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getMaxStatements() {
+        return maxStatements;
+    }
+
+    public boolean isOverBudget() {
+        return statements > maxStatements;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public long getParticipantsLoaded() {
+        return participantsLoaded;
+    }
+
+    public long getConnectionWaitNanos() {
+        return connectionWaitNanos;
+    }
+
+    public long getConnectionHoldNanos() {
+        return connectionHoldNanos;
+    }
+
+    /**
+     * Statements prepared at least threshold times in this request, the usual signature of an N+1 query
+     */
+    public Map<String, Integer> getRepeatedStatements(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        statementCounts.forEach((sql, count) -> {
+            if (count >= threshold) {
+                repeated.put(sql, count);
+            }
+        });
+        return repeated;
+    }
+}
@@ -0,0 +1,132 @@
+package com.tennistournament.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Publishes the per-request counters as metrics tagged like http.server.requests and enforces SQL budgets
+ * Requests over their budget are logged (LOG) or failed as soon as the budget is exceeded (FAIL).
+ * Statements repeated within one request are logged as possible N+1 queries.
+ * Streaming responses complete on another thread and are not counted
+ */
+public class RequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    /**
+     * What to do when a request exceeds its SQL statement budget
+     */
+    public enum BudgetAction {
+        NONE,
+        LOG,
+        FAIL
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(RequestMetricsInterceptor.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int defaultMaxStatements;
+    private final BudgetAction budgetAction;
+    private final int repeatedStatementThreshold;
+
+    public RequestMetricsInterceptor(MeterRegistry meterRegistry, int defaultMaxStatements,
+                                     BudgetAction budgetAction, int repeatedStatementThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.defaultMaxStatements = defaultMaxStatements;
+        this.budgetAction = budgetAction;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestMetrics.start(maxStatements(handler), budgetAction == BudgetAction.FAIL);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        RequestMetrics.end();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        RequestMetrics metrics = RequestMetrics.end();
+        if (metrics == null) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String method = request.getMethod();
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("SQL statements prepared per request")
+                .tags("method", method, "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(metrics.getStatements());
+        Timer.builder("http.server.requests.jdbc")
+                .description("Time spent executing JDBC statements per request")
+                .tags("method", method, "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofNanos(metrics.getJdbcNanos()));
+        Timer.builder("http.server.requests.connection.wait")
+                .description("Time spent waiting for pooled JDBC connections per request")
+                .tags("method", method, "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofNanos(metrics.getConnectionWaitNanos()));
+        Timer.builder("http.server.requests.connection.hold")
+                .description("Time JDBC connections were held per request")
+                .tags("method", method, "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofNanos(metrics.getConnectionHoldNanos()));
+        DistributionSummary.builder("http.server.requests.participants.loaded")
+                .description("Participant, attendee and registration rows loaded per request")
+                .tags("method", method, "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(metrics.getParticipantsLoaded());
+
+        if (budgetAction != BudgetAction.NONE && metrics.isOverBudget()) {
+            Counter.builder("http.server.requests.sql.budget.exceeded")
+                    .description("Requests that exceeded their SQL statement budget")
+                    .tags("method", method, "uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("{} {} prepared {} SQL statements, budget is {}",
+                    method, uri, metrics.getStatements(), metrics.getMaxStatements());
+        }
+        for (Map.Entry<String, Integer> repeated : metrics.getRepeatedStatements(repeatedStatementThreshold).entrySet()) {
+            log.warn("Possible N+1 query in {} {}: statement prepared {} times: {}",
+                    method, uri, repeated.getValue(), repeated.getKey());
+        }
+    }
+
+    private int maxStatements(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            SqlBudget budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), SqlBudget.class);
+            if (budget == null) {
+                budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), SqlBudget.class);
+            }
+            if (budget != null) {
+                return budget.maxStatements();
+            }
+        }
+        return defaultMaxStatements;
+    }
+}
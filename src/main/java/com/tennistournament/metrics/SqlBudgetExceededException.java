@@ -0,0 +1,11 @@
+package com.tennistournament.metrics;
+
+/**
+ * Thrown when a request prepares more SQL statements than its budget allows and sql.budget.action is FAIL
+ */
+public class SqlBudgetExceededException extends IllegalStateException {
+
+    public SqlBudgetExceededException(int statements, int maxStatements) {
+        super("Request exceeded its SQL statement budget: " + statements + " statements, budget " + maxStatements);
+    }
+}
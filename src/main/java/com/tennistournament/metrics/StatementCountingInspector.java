@@ -0,0 +1,15 @@
+package com.tennistournament.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares for the current request
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestMetrics.statementPrepared(sql);
+        return sql;
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
@@ -12,8 +13,10 @@ import java.util.Set;
 @Table(name = "tournaments")
 public class Tournament {
 
+    // Pooled sequence instead of IDENTITY so inserts can be batched; one sequence call covers 50 rows
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tournament_seq")
+    @SequenceGenerator(name = "tournament_seq", sequenceName = "tournaments_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Tournament name is required")
@@ -36,6 +39,11 @@ public class Tournament {
     @Column(name = "tennis_club_id", nullable = false)
     private Long tennisClubId;
 
+    // Maintained by conditional updates in the repository, never written through the entity
+    @ColumnDefault("0")
+    @Column(name = "participant_count", nullable = false, insertable = false, updatable = false)
+    private int participantCount;
+
     @ManyToMany
     @JoinTable(
         name = "tournament_participants",
@@ -106,6 +114,10 @@ public class Tournament {
         this.tennisClubId = tennisClubId;
     }
 
+    public int getParticipantCount() {
+        return participantCount;
+    }
+
     public Set<UserProfile> getParticipants() {
         return participants;
     }
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.ColumnDefault;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
@@ -43,6 +44,11 @@ public class TrainingSession {
     @Column(name = "tennis_club_id", nullable = false)
     private Long tennisClubId;
 
+    // Maintained by conditional updates in the repository, never written through the entity
+    @ColumnDefault("0")
+    @Column(name = "attendee_count", nullable = false, insertable = false, updatable = false)
+    private int attendeeCount;
+
     @ManyToMany
     @JoinTable(
         name = "training_session_attendees",
@@ -132,6 +138,10 @@ public class TrainingSession {
         this.tennisClubId = tennisClubId;
     }
 
+    public int getAttendeeCount() {
+        return attendeeCount;
+    }
+
     public Set<UserProfile> getAttendees() {
         return attendees;
     }
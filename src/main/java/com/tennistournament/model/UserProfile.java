@@ -9,24 +9,29 @@ import java.util.Set;
 
 @Entity
 @Table(name = "user_profiles", uniqueConstraints = {
-    @UniqueConstraint(columnNames = "username"),
-    @UniqueConstraint(columnNames = "email")
+    @UniqueConstraint(name = UserProfile.USERNAME_CONSTRAINT, columnNames = "username"),
+    @UniqueConstraint(name = UserProfile.EMAIL_CONSTRAINT, columnNames = "email")
 })
 public class UserProfile {
 
+    // Named so a violation can be told apart by its constraint name
+    public static final String USERNAME_CONSTRAINT = "uk_user_profiles_username";
+    public static final String EMAIL_CONSTRAINT = "uk_user_profiles_email";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_profile_seq")
+    @SequenceGenerator(name = "user_profile_seq", sequenceName = "user_profiles_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Username is required")
     @Size(min = 3, max = 50, message = "Username must be between 3 and 50 characters")
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String username;
 
     @NotBlank(message = "Email is required")
     @Email(message = "Email should be valid")
     @Size(max = 100, message = "Email must not exceed 100 characters")
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
 
     @Size(max = 50, message = "First name must not exceed 50 characters")
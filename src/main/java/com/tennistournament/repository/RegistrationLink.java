@@ -0,0 +1,31 @@
+package com.tennistournament.repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Projection of one row of a registration join table
+ * (tournament_participants or training_session_attendees)
+ */
+public interface RegistrationLink {
+    Long getEventId();
+    Long getUserId();
+
+    static Map<Long, List<Long>> userIdsByEventId(List<RegistrationLink> links) {
+        Map<Long, List<Long>> userIds = new HashMap<>();
+        for (RegistrationLink link : links) {
+            userIds.computeIfAbsent(link.getEventId(), id -> new ArrayList<>()).add(link.getUserId());
+        }
+        return userIds;
+    }
+
+    static Map<Long, List<Long>> eventIdsByUserId(List<RegistrationLink> links) {
+        Map<Long, List<Long>> eventIds = new HashMap<>();
+        for (RegistrationLink link : links) {
+            eventIds.computeIfAbsent(link.getUserId(), id -> new ArrayList<>()).add(link.getEventId());
+        }
+        return eventIds;
+    }
+}
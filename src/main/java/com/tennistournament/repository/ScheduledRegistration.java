@@ -0,0 +1,13 @@
+package com.tennistournament.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a registration together with the time window of the event
+ */
+public interface ScheduledRegistration {
+    Long getUserId();
+    Long getEventId();
+    LocalDateTime getStartDateTime();
+    LocalDateTime getEndDateTime();
+}
@@ -1,15 +1,82 @@
 package com.tennistournament.repository;
 
 import com.tennistournament.model.Tournament;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TournamentRepository extends JpaRepository<Tournament, Long> {
+    String SUMMARY_SELECT = "select new com.tennistournament.repository.TournamentSummary("
+            + "t.id, t.name, t.startDateTime, t.endDateTime, t.maxParticipants, t.tennisClubId) from Tournament t ";
+
     List<Tournament> findByTennisClubId(Long clubId);
-}
 
+    // Read paths use scalar summaries instead of managed entities
+    @Query(SUMMARY_SELECT + "where (:clubId is null or t.tennisClubId = :clubId) order by t.id")
+    List<TournamentSummary> findSummaries(@Param("clubId") Long clubId);
+
+    @Query(SUMMARY_SELECT + "where t.id = :id")
+    Optional<TournamentSummary> findSummaryById(@Param("id") Long id);
+
+    // Keyset pagination: next page starts after the last ID of the previous one
+    @Query(SUMMARY_SELECT + "where t.id > :afterId and (:clubId is null or t.tennisClubId = :clubId) order by t.id")
+    List<TournamentSummary> findSummariesAfter(@Param("clubId") Long clubId, @Param("afterId") Long afterId,
+                                               Pageable pageable);
+
+    // Participant IDs for a page of tournaments in one statement, without loading UserProfile entities
+    @Query("select t.id as eventId, p.id as userId from Tournament t join t.participants p where t.id in :tournamentIds")
+    List<RegistrationLink> findParticipantLinks(@Param("tournamentIds") Collection<Long> tournamentIds);
+
+    @Query("select p.id as userId, t.id as eventId, t.startDateTime as startDateTime, t.endDateTime as endDateTime "
+            + "from Tournament t join t.participants p")
+    List<ScheduledRegistration> findAllScheduledRegistrations();
+
+    // Registration works on the join table directly so the participants set is never initialized
+    @Query("select count(p) from Tournament t join t.participants p where t.id = :tournamentId and p.id = :userId")
+    long countParticipant(@Param("tournamentId") Long tournamentId, @Param("userId") Long userId);
+
+    // Atomically takes a seat: the row lock of the update serializes concurrent signups for the same
+    // tournament only, and the condition is re-checked against the committed count
+    @Modifying
+    @Query(value = "update tournaments set participant_count = participant_count + 1 where id = :tournamentId "
+            + "and (max_participants is null or participant_count < max_participants)", nativeQuery = true)
+    int reserveParticipantSlot(@Param("tournamentId") Long tournamentId);
+
+    // Takes several seats at once for a batch of queued registrations, all or nothing
+    @Modifying
+    @Query(value = "update tournaments set participant_count = participant_count + :seats where id = :tournamentId "
+            + "and (max_participants is null or participant_count + :seats <= max_participants)", nativeQuery = true)
+    int reserveParticipantSlots(@Param("tournamentId") Long tournamentId, @Param("seats") int seats);
+
+    @Modifying
+    @Query(value = "update tournaments set participant_count = participant_count - 1 "
+            + "where id = :tournamentId and participant_count > 0", nativeQuery = true)
+    int releaseParticipantSlot(@Param("tournamentId") Long tournamentId);
+
+    @Modifying
+    @Query(value = "update tournaments t set participant_count = "
+            + "(select count(*) from tournament_participants p where p.tournament_id = t.id)", nativeQuery = true)
+    int synchronizeParticipantCounts();
+
+    @Query("select p.id from Tournament t join t.participants p where t.id = :tournamentId and p.id in :userIds")
+    List<Long> findRegisteredParticipantIds(@Param("tournamentId") Long tournamentId,
+                                            @Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query(value = "insert into tournament_participants (tournament_id, user_profile_id) values (:tournamentId, :userId)",
+           nativeQuery = true)
+    int insertParticipant(@Param("tournamentId") Long tournamentId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "delete from tournament_participants where tournament_id = :tournamentId and user_profile_id = :userId",
+           nativeQuery = true)
+    int deleteParticipant(@Param("tournamentId") Long tournamentId, @Param("userId") Long userId);
+}
@@ -0,0 +1,57 @@
+package com.tennistournament.repository;
+
+import com.tennistournament.model.Tournament;
+
+import java.time.LocalDateTime;
+
+/**
+ * Scalar projection of a tournament row
+ * Built directly by JPQL constructor expressions so read paths create no managed entities
+ */
+public class TournamentSummary {
+    private final Long id;
+    private final String name;
+    private final LocalDateTime startDateTime;
+    private final LocalDateTime endDateTime;
+    private final Integer maxParticipants;
+    private final Long tennisClubId;
+
+    public TournamentSummary(Long id, String name, LocalDateTime startDateTime, LocalDateTime endDateTime,
+                             Integer maxParticipants, Long tennisClubId) {
+        this.id = id;
+        this.name = name;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+        this.maxParticipants = maxParticipants;
+        this.tennisClubId = tennisClubId;
+    }
+
+    public static TournamentSummary from(Tournament tournament) {
+        return new TournamentSummary(tournament.getId(), tournament.getName(), tournament.getStartDateTime(),
+                tournament.getEndDateTime(), tournament.getMaxParticipants(), tournament.getTennisClubId());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LocalDateTime getStartDateTime() {
+        return startDateTime;
+    }
+
+    public LocalDateTime getEndDateTime() {
+        return endDateTime;
+    }
+
+    public Integer getMaxParticipants() {
+        return maxParticipants;
+    }
+
+    public Long getTennisClubId() {
+        return tennisClubId;
+    }
+}
@@ -2,12 +2,66 @@ package com.tennistournament.repository;
 
 import com.tennistournament.model.TrainingSession;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TrainingSessionRepository extends JpaRepository<TrainingSession, Long> {
+    String SUMMARY_SELECT = "select new com.tennistournament.repository.TrainingSessionSummary("
+            + "s.id, s.name, s.description, s.startDateTime, s.endDateTime, s.maxAttendees, s.coachName, "
+            + "s.tennisClubId) from TrainingSession s ";
+
     List<TrainingSession> findByTennisClubId(Long clubId);
-}
 
+    // Read paths use scalar summaries instead of managed entities
+    @Query(SUMMARY_SELECT + "where (:clubId is null or s.tennisClubId = :clubId) order by s.id")
+    List<TrainingSessionSummary> findSummaries(@Param("clubId") Long clubId);
+
+    @Query(SUMMARY_SELECT + "where s.id = :id")
+    Optional<TrainingSessionSummary> findSummaryById(@Param("id") Long id);
+
+    // Attendee IDs for a page of training sessions in one statement, without loading UserProfile entities
+    @Query("select s.id as eventId, a.id as userId from TrainingSession s join s.attendees a where s.id in :sessionIds")
+    List<RegistrationLink> findAttendeeLinks(@Param("sessionIds") Collection<Long> sessionIds);
+
+    @Query("select a.id as userId, s.id as eventId, s.startDateTime as startDateTime, s.endDateTime as endDateTime "
+            + "from TrainingSession s join s.attendees a")
+    List<ScheduledRegistration> findAllScheduledRegistrations();
+
+    // Registration works on the join table directly so the attendees set is never initialized
+    @Query("select count(a) from TrainingSession s join s.attendees a where s.id = :sessionId and a.id = :userId")
+    long countAttendee(@Param("sessionId") Long sessionId, @Param("userId") Long userId);
+
+    // Atomically takes a seat: the row lock of the update serializes concurrent signups for the same
+    // session only, and the condition is re-checked against the committed count
+    @Modifying
+    @Query(value = "update training_sessions set attendee_count = attendee_count + 1 where id = :sessionId "
+            + "and (max_attendees is null or attendee_count < max_attendees)", nativeQuery = true)
+    int reserveAttendeeSlot(@Param("sessionId") Long sessionId);
+
+    @Modifying
+    @Query(value = "update training_sessions set attendee_count = attendee_count - 1 "
+            + "where id = :sessionId and attendee_count > 0", nativeQuery = true)
+    int releaseAttendeeSlot(@Param("sessionId") Long sessionId);
+
+    @Modifying
+    @Query(value = "update training_sessions s set attendee_count = "
+            + "(select count(*) from training_session_attendees a where a.training_session_id = s.id)", nativeQuery = true)
+    int synchronizeAttendeeCounts();
+
+    @Modifying
+    @Query(value = "insert into training_session_attendees (training_session_id, user_profile_id) values (:sessionId, :userId)",
+           nativeQuery = true)
+    int insertAttendee(@Param("sessionId") Long sessionId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "delete from training_session_attendees where training_session_id = :sessionId and user_profile_id = :userId",
+           nativeQuery = true)
+    int deleteAttendee(@Param("sessionId") Long sessionId, @Param("userId") Long userId);
+}
@@ -0,0 +1,71 @@
+package com.tennistournament.repository;
+
+import com.tennistournament.model.TrainingSession;
+
+import java.time.LocalDateTime;
+
+/**
+ * Scalar projection of a training session row
+ * Built directly by JPQL constructor expressions so read paths create no managed entities
+ */
+public class TrainingSessionSummary {
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final LocalDateTime startDateTime;
+    private final LocalDateTime endDateTime;
+    private final Integer maxAttendees;
+    private final String coachName;
+    private final Long tennisClubId;
+
+    public TrainingSessionSummary(Long id, String name, String description, LocalDateTime startDateTime,
+                                  LocalDateTime endDateTime, Integer maxAttendees, String coachName,
+                                  Long tennisClubId) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+        this.maxAttendees = maxAttendees;
+        this.coachName = coachName;
+        this.tennisClubId = tennisClubId;
+    }
+
+    public static TrainingSessionSummary from(TrainingSession session) {
+        return new TrainingSessionSummary(session.getId(), session.getName(), session.getDescription(),
+                session.getStartDateTime(), session.getEndDateTime(), session.getMaxAttendees(),
+                session.getCoachName(), session.getTennisClubId());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public LocalDateTime getStartDateTime() {
+        return startDateTime;
+    }
+
+    public LocalDateTime getEndDateTime() {
+        return endDateTime;
+    }
+
+    public Integer getMaxAttendees() {
+        return maxAttendees;
+    }
+
+    public String getCoachName() {
+        return coachName;
+    }
+
+    public Long getTennisClubId() {
+        return tennisClubId;
+    }
+}
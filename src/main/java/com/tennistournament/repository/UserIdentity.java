@@ -0,0 +1,9 @@
+package com.tennistournament.repository;
+
+/**
+ * Projection of the unique columns of a user profile
+ */
+public interface UserIdentity {
+    String getUsername();
+    String getEmail();
+}
@@ -2,13 +2,45 @@ package com.tennistournament.repository;
 
 import com.tennistournament.model.UserProfile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserProfileRepository extends JpaRepository<UserProfile, Long> {
+public interface UserProfileRepository extends JpaRepository<UserProfile, Long>, UserProfileRepositoryCustom {
     Optional<UserProfile> findByUsername(String username);
     Optional<UserProfile> findByEmail(String email);
-}
 
+    // Users holding either the username or the email, checked in one statement; a null value matches nothing
+    @Query("select u.username as username, u.email as email from UserProfile u "
+            + "where u.username = :username or u.email = :email")
+    List<UserIdentity> findIdentitiesByUsernameOrEmail(@Param("username") String username,
+                                                       @Param("email") String email);
+
+    // Chunked existence check for imports: one statement for a whole chunk of usernames and emails
+    @Query("select u.username as username, u.email as email from UserProfile u "
+            + "where u.username in :usernames or u.email in :emails")
+    List<UserIdentity> findIdentitiesByUsernameInOrEmailIn(@Param("usernames") Collection<String> usernames,
+                                                          @Param("emails") Collection<String> emails);
+
+    @Query("select u.username as username, u.email as email from UserProfile u")
+    List<UserIdentity> findAllIdentities();
+
+    @Query("select u.id as id, u.username as username, u.email as email, u.firstName as firstName, "
+            + "u.lastName as lastName, u.skillLevel as skillLevel from UserProfile u")
+    List<UserSearchFields> findAllSearchFields();
+
+    @Query("select u.id from UserProfile u where u.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Registration IDs for a page of users in one statement each, without loading the event entities
+    @Query("select t.id as eventId, p.id as userId from Tournament t join t.participants p where p.id in :userIds")
+    List<RegistrationLink> findTournamentLinks(@Param("userIds") Collection<Long> userIds);
+
+    @Query("select s.id as eventId, a.id as userId from TrainingSession s join s.attendees a where a.id in :userIds")
+    List<RegistrationLink> findTrainingSessionLinks(@Param("userIds") Collection<Long> userIds);
+}
@@ -0,0 +1,13 @@
+package com.tennistournament.repository;
+
+import java.util.List;
+
+public interface UserProfileRepositoryCustom {
+
+    /**
+     * Selected columns of the users with an ID greater than afterId, ordered by ID, at most limit rows
+     * (all when limit is null); each row holds the ID followed by the columns in the given order
+     * Only the columns asked for are selected, no entities are loaded
+     */
+    List<Object[]> findColumnsAfter(List<String> columns, long afterId, Integer limit);
+}
@@ -0,0 +1,42 @@
+package com.tennistournament.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Builds the user column projection for sparse field requests
+ */
+public class UserProfileRepositoryCustomImpl implements UserProfileRepositoryCustom {
+
+    // Column names become part of the query, so only these attributes are accepted
+    private static final Set<String> SELECTABLE_COLUMNS = Set.of("username", "email", "firstName", "lastName",
+            "skillLevel");
+
+    private final EntityManager entityManager;
+
+    public UserProfileRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Object[]> findColumnsAfter(List<String> columns, long afterId, Integer limit) {
+        StringBuilder jpql = new StringBuilder("select u.id");
+        for (String column : columns) {
+            if (!SELECTABLE_COLUMNS.contains(column)) {
+                throw new IllegalArgumentException("Not a selectable user column: " + column);
+            }
+            jpql.append(", u.").append(column);
+        }
+        jpql.append(" from UserProfile u where u.id > :afterId order by u.id");
+
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class)
+                .setParameter("afterId", afterId);
+        if (limit != null) {
+            query.setMaxResults(limit);
+        }
+        return query.getResultList();
+    }
+}
@@ -0,0 +1,13 @@
+package com.tennistournament.repository;
+
+/**
+ * Projection of the user profile fields covered by the member search index
+ */
+public interface UserSearchFields {
+    Long getId();
+    String getUsername();
+    String getEmail();
+    String getFirstName();
+    String getLastName();
+    String getSkillLevel();
+}
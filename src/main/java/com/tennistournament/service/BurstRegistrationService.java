@@ -0,0 +1,21 @@
+package com.tennistournament.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface BurstRegistrationService {
+    void enable(Long tournamentId);
+    void disable(Long tournamentId);
+    boolean isEnabled(Long tournamentId);
+    Optional<Ticket> trySubmit(Long tournamentId, Long userId);
+    void seatReleased(Long tournamentId);
+
+    /**
+     * Handle to a queued registration
+     */
+    interface Ticket {
+        Long getUserId();
+        int getPosition();
+        boolean awaitCompletion(Duration timeout);
+    }
+}
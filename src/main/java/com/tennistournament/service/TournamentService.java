@@ -1,15 +1,19 @@
 package com.tennistournament.service;
 
+import com.tennistournament.dto.BulkTournamentResult;
 import com.tennistournament.dto.TournamentRequest;
 import com.tennistournament.dto.TournamentResponse;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface TournamentService {
     TournamentResponse createTournament(Long clubId, TournamentRequest request);
+    List<BulkTournamentResult> createTournaments(Long clubId, List<TournamentRequest> requests);
     List<TournamentResponse> getAllTournaments(Long clubId);
+    List<TournamentResponse> getTournamentsPage(Long clubId, Long afterId, int limit);
+    void streamTournaments(Long clubId, Consumer<List<TournamentResponse>> chunkConsumer);
     TournamentResponse getTournamentById(Long id);
     void registerUserForTournament(Long tournamentId, Long userId);
     void unregisterUserFromTournament(Long tournamentId, Long userId);
 }
-
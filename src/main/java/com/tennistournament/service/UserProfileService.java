@@ -1,14 +1,22 @@
 package com.tennistournament.service;
 
+import com.tennistournament.dto.UserImportLine;
+import com.tennistournament.dto.UserImportResult;
 import com.tennistournament.dto.UserProfileRequest;
 import com.tennistournament.dto.UserProfileResponse;
+import com.tennistournament.dto.UserSearchResult;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 public interface UserProfileService {
     UserProfileResponse createUser(UserProfileRequest request);
+    void importUsers(Iterator<UserImportLine> lines, Consumer<List<UserImportResult>> chunkConsumer);
     List<UserProfileResponse> getAllUsers();
+    List<Map<String, Object>> getUsers(Long afterId, Integer limit, List<String> fields);
     UserProfileResponse getUserById(Long id);
+    List<UserSearchResult> searchUsers(String query, String skillLevel, int limit);
     UserProfileResponse updateUser(Long id, UserProfileRequest request);
 }
-
@@ -0,0 +1,396 @@
+package com.tennistournament.service.impl;
+
+import com.tennistournament.model.Tournament;
+import com.tennistournament.repository.TournamentRepository;
+import com.tennistournament.repository.UserProfileRepository;
+import com.tennistournament.service.BurstRegistrationService;
+import com.tennistournament.service.TournamentService;
+import com.tennistournament.service.impl.SchedulingConflictIndex.EventType;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Opt-in burst mode for tournaments whose registration opening draws thousands of signups at once
+ * Registrations are admitted into a bounded in-memory queue per tournament and persisted by a single
+ * worker in batches, one transaction and one JDBC batch insert per batch. Requests that can no longer
+ * get a seat are rejected before any database round-trip. A user is held in the queue's admitted set only
+ * while the registration is pending, afterwards the join table decides whether they are registered.
+ */
+@Service
+public class BurstRegistrationServiceImpl implements BurstRegistrationService {
+
+    private final TournamentRepository tournamentRepository;
+    private final UserProfileRepository userProfileRepository;
+    private final TournamentService tournamentService;
+    private final SchedulingConflictIndex schedulingConflictIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final int maxQueueCapacity;
+    private final Duration shutdownTimeout;
+    private final Map<Long, TournamentQueue> queues = new ConcurrentHashMap<>();
+
+    public BurstRegistrationServiceImpl(TournamentRepository tournamentRepository,
+                                        UserProfileRepository userProfileRepository,
+                                        TournamentService tournamentService,
+                                        SchedulingConflictIndex schedulingConflictIndex,
+                                        TransactionTemplate transactionTemplate,
+                                        JdbcTemplate jdbcTemplate,
+                                        @Value("${registration.burst.batch-size:200}") int batchSize,
+                                        @Value("${registration.burst.queue-capacity:10000}") int maxQueueCapacity,
+                                        @Value("${registration.burst.shutdown-timeout:30s}") Duration shutdownTimeout) {
+        this.tournamentRepository = tournamentRepository;
+        this.userProfileRepository = userProfileRepository;
+        this.tournamentService = tournamentService;
+        this.schedulingConflictIndex = schedulingConflictIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.maxQueueCapacity = maxQueueCapacity;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    /**
+     * Start queueing registrations for a tournament
+     * Admission is limited to the seats still free when burst mode is enabled
+     */
+    @Override
+    public void enable(Long tournamentId) {
+        Tournament tournament = tournamentRepository.findById(tournamentId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Tournament not found with id: " + tournamentId));
+
+        Integer freeSeats = null;
+        int queueCapacity = maxQueueCapacity;
+        if (tournament.getMaxParticipants() != null) {
+            freeSeats = Math.max(0, tournament.getMaxParticipants() - tournament.getParticipantCount());
+            queueCapacity = Math.max(1, Math.min(queueCapacity, freeSeats));
+        }
+
+        Integer seats = freeSeats;
+        int capacity = queueCapacity;
+        queues.computeIfAbsent(tournamentId, id -> new TournamentQueue(id, tournament.getStartDateTime(),
+                tournament.getEndDateTime(), seats, capacity));
+    }
+
+    /**
+     * Stop queueing registrations for a tournament
+     * Registrations already admitted are still persisted before the worker exits
+     */
+    @Override
+    public void disable(Long tournamentId) {
+        TournamentQueue queue = queues.remove(tournamentId);
+        if (queue != null) {
+            queue.close();
+        }
+    }
+
+    @Override
+    public boolean isEnabled(Long tournamentId) {
+        return queues.containsKey(tournamentId);
+    }
+
+    /**
+     * Queue a registration if burst mode is enabled for the tournament
+     * Returns empty when the tournament is not in burst mode and should be registered directly
+     */
+    @Override
+    public Optional<Ticket> trySubmit(Long tournamentId, Long userId) {
+        TournamentQueue queue = queues.get(tournamentId);
+        if (queue == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(queue.admit(userId));
+    }
+
+    /**
+     * Called after a participant unregistered so the freed seat can be admitted again
+     */
+    @Override
+    public void seatReleased(Long tournamentId) {
+        TournamentQueue queue = queues.get(tournamentId);
+        if (queue != null) {
+            queue.releaseSeat();
+        }
+    }
+
+    /**
+     * Stop admitting and give the workers up to the shutdown timeout to persist what is queued
+     * Registrations still queued after that are failed with 503 instead of being dropped silently
+     */
+    @PreDestroy
+    public void shutdown() {
+        List<TournamentQueue> closing = new ArrayList<>(queues.values());
+        queues.clear();
+        closing.forEach(TournamentQueue::close);
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        for (TournamentQueue queue : closing) {
+            queue.awaitTermination(deadline);
+        }
+    }
+
+    private Map<Long, RuntimeException> persistBatch(Long tournamentId, LocalDateTime start, LocalDateTime end,
+                                                     List<Long> userIds) {
+        Map<Long, RuntimeException> failures = new HashMap<>();
+        Set<Long> existingUsers = new HashSet<>(userProfileRepository.findExistingIds(userIds));
+        Set<Long> registeredUsers = new HashSet<>(tournamentRepository.findRegisteredParticipantIds(tournamentId, userIds));
+
+        List<Long> accepted = new ArrayList<>();
+        for (Long userId : userIds) {
+            if (!existingUsers.contains(userId)) {
+                failures.put(userId, new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "User not found with id: " + userId));
+            } else if (registeredUsers.contains(userId)) {
+                failures.put(userId, new ResponseStatusException(HttpStatus.CONFLICT,
+                        "User is already registered for this tournament"));
+            } else {
+                try {
+                    // Entries are dropped again if the batch transaction rolls back
+                    schedulingConflictIndex.reserve(userId, EventType.TOURNAMENT, tournamentId, start, end);
+                    accepted.add(userId);
+                } catch (ResponseStatusException e) {
+                    failures.put(userId, e);
+                }
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            if (tournamentRepository.reserveParticipantSlots(tournamentId, accepted.size()) == 0) {
+                // Seats were taken outside the queue; let the caller retry one registration at a time
+                throw new IllegalStateException("Not enough free seats for batch of " + accepted.size());
+            }
+            jdbcTemplate.batchUpdate(
+                    "insert into tournament_participants (tournament_id, user_profile_id) values (?, ?)",
+                    accepted, accepted.size(), (statement, userId) -> {
+                        statement.setLong(1, tournamentId);
+                        statement.setLong(2, userId);
+                    });
+        }
+        return failures;
+    }
+
+    private Map<Long, RuntimeException> registerIndividually(Long tournamentId, List<Long> userIds) {
+        Map<Long, RuntimeException> failures = new HashMap<>();
+        for (Long userId : userIds) {
+            try {
+                tournamentService.registerUserForTournament(tournamentId, userId);
+            } catch (RuntimeException e) {
+                failures.put(userId, e);
+            }
+        }
+        return failures;
+    }
+
+    private static final class QueuedTicket implements Ticket {
+        private final Long userId;
+        private final int position;
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+        private QueuedTicket(Long userId, int position) {
+            this.userId = userId;
+            this.position = position;
+        }
+
+        @Override
+        public Long getUserId() {
+            return userId;
+        }
+
+        /**
+         * Number of registrations waiting in the queue, this one included, when it was admitted
+         */
+        @Override
+        public int getPosition() {
+            return position;
+        }
+
+        /**
+         * Wait for the registration to be persisted
+         * Returns false if it is still queued after the timeout; rethrows the rejection if it failed
+         */
+        @Override
+        public boolean awaitCompletion(Duration timeout) {
+            try {
+                completion.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+                return true;
+            } catch (TimeoutException e) {
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+
+    private final class TournamentQueue implements Runnable {
+        private final Long tournamentId;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final AtomicInteger freeSeats;
+        private final BlockingQueue<QueuedTicket> pending;
+        private final Set<Long> admittedUsers = ConcurrentHashMap.newKeySet();
+        // Admissions share the read lock; close takes the write lock, so no ticket is queued after it returns
+        private final ReadWriteLock admissionLock = new ReentrantReadWriteLock();
+        private final Thread worker;
+        private volatile boolean open = true;
+
+        private TournamentQueue(Long tournamentId, LocalDateTime start, LocalDateTime end,
+                                Integer freeSeats, int capacity) {
+            this.tournamentId = tournamentId;
+            this.start = start;
+            this.end = end;
+            this.freeSeats = freeSeats != null ? new AtomicInteger(freeSeats) : null;
+            this.pending = new ArrayBlockingQueue<>(capacity);
+            this.worker = new Thread(this, "burst-registration-" + tournamentId);
+            this.worker.setDaemon(true);
+            this.worker.start();
+        }
+
+        private Ticket admit(Long userId) {
+            admissionLock.readLock().lock();
+            try {
+                if (!open) {
+                    return null;
+                }
+                if (!admittedUsers.add(userId)) {
+                    throw new ResponseStatusException(HttpStatus.CONFLICT,
+                            "User is already registered for this tournament");
+                }
+                if (freeSeats != null && freeSeats.getAndDecrement() <= 0) {
+                    freeSeats.incrementAndGet();
+                    admittedUsers.remove(userId);
+                    throw new ResponseStatusException(HttpStatus.CONFLICT,
+                            "Tournament has reached maximum number of participants");
+                }
+
+                QueuedTicket ticket = new QueuedTicket(userId, pending.size() + 1);
+                if (!pending.offer(ticket)) {
+                    releaseSeat();
+                    admittedUsers.remove(userId);
+                    throw new ResponseStatusException(HttpStatus.CONFLICT,
+                            "Registration queue for this tournament is full");
+                }
+                return ticket;
+            } finally {
+                admissionLock.readLock().unlock();
+            }
+        }
+
+        private void releaseSeat() {
+            if (freeSeats != null) {
+                freeSeats.incrementAndGet();
+            }
+        }
+
+        private void close() {
+            admissionLock.writeLock().lock();
+            try {
+                open = false;
+            } finally {
+                admissionLock.writeLock().unlock();
+            }
+        }
+
+        private void awaitTermination(long deadline) {
+            try {
+                worker.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (worker.isAlive()) {
+                worker.interrupt();
+                failRemaining();
+            }
+        }
+
+        @Override
+        public void run() {
+            while (open || !pending.isEmpty()) {
+                QueuedTicket first;
+                try {
+                    first = pending.poll(100, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                if (first == null) {
+                    continue;
+                }
+
+                List<QueuedTicket> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                pending.drainTo(batch, batchSize - 1);
+                process(batch);
+            }
+            failRemaining();
+        }
+
+        // Only reached when the worker is stopped before the queue is drained, e.g. at shutdown
+        private void failRemaining() {
+            List<QueuedTicket> remaining = new ArrayList<>();
+            pending.drainTo(remaining);
+            for (QueuedTicket ticket : remaining) {
+                admittedUsers.remove(ticket.getUserId());
+                ticket.completion.completeExceptionally(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                        "Registration was not persisted before burst mode stopped"));
+            }
+        }
+
+        private void process(List<QueuedTicket> batch) {
+            List<Long> userIds = batch.stream()
+                    .map(QueuedTicket::getUserId)
+                    .collect(Collectors.toList());
+
+            Map<Long, RuntimeException> failures;
+            try {
+                failures = transactionTemplate.execute(status -> persistBatch(tournamentId, start, end, userIds));
+            } catch (RuntimeException e) {
+                // The batch transaction rolled back as a whole; fall back to one transaction per registration
+                failures = registerIndividually(tournamentId, userIds);
+            }
+
+            for (QueuedTicket ticket : batch) {
+                RuntimeException failure = failures.get(ticket.getUserId());
+                // Persisted or not, the join table now answers whether the user is registered
+                admittedUsers.remove(ticket.getUserId());
+                if (failure == null) {
+                    ticket.completion.complete(null);
+                } else {
+                    releaseSeat();
+                    ticket.completion.completeExceptionally(failure);
+                }
+            }
+        }
+    }
+}
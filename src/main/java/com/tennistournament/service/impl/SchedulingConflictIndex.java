@@ -0,0 +1,274 @@
+package com.tennistournament.service.impl;
+
+import com.tennistournament.exception.SchedulingConflictException;
+import com.tennistournament.repository.ScheduledRegistration;
+import com.tennistournament.repository.TournamentRepository;
+import com.tennistournament.repository.TrainingSessionRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of the time windows each user is registered for, across tournaments and training sessions
+ * Each user's events are kept sorted by start time. Because overlapping registrations are rejected, a user's
+ * windows normally never overlap, so only the latest event starting before the new window ends can conflict
+ * with it: a check is one O(log n) lookup instead of loading and scanning the user's registrations. Users whose
+ * stored registrations already overlap (made before this check existed) are checked against every earlier event.
+ * Changes made inside a transaction are applied or undone when the transaction completes.
+ */
+@Component
+public class SchedulingConflictIndex {
+
+    public enum EventType {
+        TOURNAMENT,
+        TRAINING_SESSION
+    }
+
+    private static final Comparator<ScheduledEvent> BY_START = Comparator
+            .comparing((ScheduledEvent event) -> event.start)
+            .thenComparing(event -> event.eventId)
+            .thenComparing(event -> event.type);
+
+    private final TournamentRepository tournamentRepository;
+    private final TrainingSessionRepository trainingSessionRepository;
+    // Changes hold the read lock; a rebuild takes the write lock only to replay them and swap in the new map
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile Map<Long, UserSchedule> schedules = new ConcurrentHashMap<>();
+    private Queue<Change> changesDuringRebuild;
+
+    public SchedulingConflictIndex(TournamentRepository tournamentRepository,
+                                   TrainingSessionRepository trainingSessionRepository) {
+        this.tournamentRepository = tournamentRepository;
+        this.trainingSessionRepository = trainingSessionRepository;
+    }
+
+    /**
+     * Check the window against the user's other registrations and record it
+     * Throws SchedulingConflictException with the conflicting event if the windows overlap
+     * If the surrounding transaction rolls back, the window is removed again, unless it was already recorded
+     */
+    public void reserve(Long userId, EventType type, Long eventId, LocalDateTime start, LocalDateTime end) {
+        ScheduledEvent event = new ScheduledEvent(type, eventId, start, end);
+        boolean added;
+        swapLock.readLock().lock();
+        try {
+            UserSchedule schedule = schedules.computeIfAbsent(userId, id -> new UserSchedule());
+            synchronized (schedule) {
+                ScheduledEvent conflict = schedule.findConflict(event);
+                if (conflict != null) {
+                    throw new SchedulingConflictException(conflict.type.name(), conflict.eventId);
+                }
+                added = schedule.events.add(event);
+                if (added) {
+                    record(new Change(userId, event, true));
+                }
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+
+        // The window was already held, by this user's registration for the same event in another
+        // transaction; rolling this one back must not remove it
+        if (!added) {
+            return;
+        }
+        afterCompletion(committed -> {
+            if (!committed) {
+                remove(userId, event);
+            }
+        });
+    }
+
+    /**
+     * Remove the window once the unregistration is committed
+     */
+    public void release(Long userId, EventType type, Long eventId, LocalDateTime start) {
+        ScheduledEvent event = new ScheduledEvent(type, eventId, start, null);
+        afterCompletion(committed -> {
+            if (committed) {
+                remove(userId, event);
+            }
+        });
+    }
+
+    /**
+     * Rebuild the index from the join tables
+     * The index is loaded into a new map while the current one keeps serving checks; changes made meanwhile
+     * are replayed onto the new map before it replaces the current one, so no reservation is lost
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        swapLock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ConcurrentLinkedQueue<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        Map<Long, UserSchedule> loaded = new ConcurrentHashMap<>();
+        try {
+            load(loaded, EventType.TOURNAMENT, tournamentRepository.findAllScheduledRegistrations());
+            load(loaded, EventType.TRAINING_SESSION, trainingSessionRepository.findAllScheduledRegistrations());
+            loaded.values().forEach(UserSchedule::checkDisjoint);
+        } catch (RuntimeException e) {
+            swapLock.writeLock().lock();
+            changesDuringRebuild = null;
+            swapLock.writeLock().unlock();
+            throw e;
+        }
+
+        swapLock.writeLock().lock();
+        try {
+            for (Change change : changesDuringRebuild) {
+                UserSchedule schedule = loaded.computeIfAbsent(change.userId, id -> new UserSchedule());
+                if (change.added) {
+                    schedule.add(change.event);
+                } else {
+                    schedule.events.remove(change.event);
+                }
+            }
+            changesDuringRebuild = null;
+            schedules = loaded;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private static void load(Map<Long, UserSchedule> loaded, EventType type,
+                             Iterable<ScheduledRegistration> registrations) {
+        for (ScheduledRegistration registration : registrations) {
+            loaded.computeIfAbsent(registration.getUserId(), id -> new UserSchedule())
+                    .events.add(new ScheduledEvent(type, registration.getEventId(),
+                            registration.getStartDateTime(), registration.getEndDateTime()));
+        }
+    }
+
+    private void remove(Long userId, ScheduledEvent event) {
+        swapLock.readLock().lock();
+        try {
+            UserSchedule schedule = schedules.get(userId);
+            if (schedule != null) {
+                synchronized (schedule) {
+                    schedule.events.remove(event);
+                    record(new Change(userId, event, false));
+                }
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    // Called with the read lock held
+    private void record(Change change) {
+        Queue<Change> changes = changesDuringRebuild;
+        if (changes != null) {
+            changes.add(change);
+        }
+    }
+
+    private void afterCompletion(CompletionCallback callback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            callback.onCompletion(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                callback.onCompletion(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface CompletionCallback {
+        void onCompletion(boolean committed);
+    }
+
+    /**
+     * One user's windows, sorted by start time
+     */
+    private static final class UserSchedule {
+        private final TreeSet<ScheduledEvent> events = new TreeSet<>(BY_START);
+        // False once stored windows overlap; such schedules are checked against every earlier event
+        private boolean disjoint = true;
+
+        private ScheduledEvent findConflict(ScheduledEvent event) {
+            // Latest events starting before the new one ends first
+            ScheduledEvent bound = new ScheduledEvent(null, Long.MIN_VALUE, event.end, null);
+            for (ScheduledEvent candidate : events.headSet(bound, false).descendingSet()) {
+                if (!candidate.isSameEvent(event) && candidate.end.isAfter(event.start)) {
+                    return candidate;
+                }
+                if (disjoint) {
+                    // Earlier events of a disjoint schedule also end earlier
+                    return null;
+                }
+            }
+            return null;
+        }
+
+        private void add(ScheduledEvent event) {
+            events.add(event);
+            checkDisjoint();
+        }
+
+        private void checkDisjoint() {
+            LocalDateTime latestEnd = null;
+            for (ScheduledEvent event : events) {
+                if (latestEnd != null && event.start.isBefore(latestEnd)) {
+                    disjoint = false;
+                    return;
+                }
+                if (latestEnd == null || event.end.isAfter(latestEnd)) {
+                    latestEnd = event.end;
+                }
+            }
+            disjoint = true;
+        }
+    }
+
+    /**
+     * A window added to or removed from the index while it was being rebuilt
+     */
+    private static final class Change {
+        private final Long userId;
+        private final ScheduledEvent event;
+        private final boolean added;
+
+        private Change(Long userId, ScheduledEvent event, boolean added) {
+            this.userId = userId;
+            this.event = event;
+            this.added = added;
+        }
+    }
+
+    private static final class ScheduledEvent {
+        private final EventType type;
+        private final Long eventId;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+
+        private ScheduledEvent(EventType type, Long eventId, LocalDateTime start, LocalDateTime end) {
+            this.type = type;
+            this.eventId = eventId;
+            this.start = start;
+            this.end = end;
+        }
+
+        private boolean isSameEvent(ScheduledEvent other) {
+            return type == other.type && eventId.equals(other.eventId);
+        }
+    }
+}
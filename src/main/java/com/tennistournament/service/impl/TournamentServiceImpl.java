@@ -1,146 +1,307 @@
 package com.tennistournament.service.impl;
 
-import com.tennistournament.client.ClubServiceClient;
+import com.tennistournament.client.AsyncClubServiceClient;
+import com.tennistournament.client.ClubNameResolver;
+import com.tennistournament.client.ClubRegistry;
 import com.tennistournament.client.dto.ClubResponse;
+import com.tennistournament.dto.BulkTournamentResult;
 import com.tennistournament.dto.TournamentRequest;
 import com.tennistournament.dto.TournamentResponse;
+import com.tennistournament.metrics.RequestMetrics;
 import com.tennistournament.model.Tournament;
-import com.tennistournament.model.UserProfile;
+import com.tennistournament.repository.RegistrationLink;
 import com.tennistournament.repository.TournamentRepository;
+import com.tennistournament.repository.TournamentSummary;
 import com.tennistournament.repository.UserProfileRepository;
 import com.tennistournament.service.TournamentService;
+import com.tennistournament.service.impl.SchedulingConflictIndex.EventType;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.Validator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
+@Timed(value = "service.calls", histogram = true)
 public class TournamentServiceImpl implements TournamentService {
 
+    private static final int STREAM_CHUNK_SIZE = 100;
+
     private final TournamentRepository tournamentRepository;
     private final UserProfileRepository userProfileRepository;
-    private final ClubServiceClient clubServiceClient;
+    private final ClubNameResolver clubNameResolver;
+    private final ClubRegistry clubRegistry;
+    private final AsyncClubServiceClient asyncClubServiceClient;
+    private final SchedulingConflictIndex schedulingConflictIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
 
     public TournamentServiceImpl(TournamentRepository tournamentRepository,
                                  UserProfileRepository userProfileRepository,
-                                 ClubServiceClient clubServiceClient) {
+                                 ClubNameResolver clubNameResolver,
+                                 ClubRegistry clubRegistry,
+                                 AsyncClubServiceClient asyncClubServiceClient,
+                                 SchedulingConflictIndex schedulingConflictIndex,
+                                 TransactionTemplate transactionTemplate,
+                                 Validator validator) {
         this.tournamentRepository = tournamentRepository;
         this.userProfileRepository = userProfileRepository;
-        this.clubServiceClient = clubServiceClient;
+        this.clubNameResolver = clubNameResolver;
+        this.clubRegistry = clubRegistry;
+        this.asyncClubServiceClient = asyncClubServiceClient;
+        this.schedulingConflictIndex = schedulingConflictIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TournamentResponse createTournament(Long clubId, TournamentRequest request) {
-        // Validate club exists via club service
-        // FeignErrorDecoder will throw ResponseStatusException for 4xx/5xx responses
-        // which will be handled by GlobalExceptionHandler and preserve the status code
-        try {
-            ResponseEntity<ClubResponse> clubResponse = clubServiceClient.getClubById(clubId);
-            
-            // Check if response body is null (shouldn't happen for 200, but safety check)
-            if (clubResponse.getBody() == null) {
-                throw new ResponseStatusException(HttpStatus.NOT_FOUND, 
-                        "Tennis club not found with id: " + clubId);
-            }
-        } catch (ResponseStatusException e) {
-            // Re-throw to preserve status code (404, 503, etc.)
-            throw e;
-        }
-        
-        // Validate date range
+        // Validate date range before any club lookup is started, so a rejected request leaves none behind
         if (request.getEndDateTime().isBefore(request.getStartDateTime())) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, 
                     "End date and time must be after start date and time");
         }
         
-        Tournament tournament = new Tournament();
-        tournament.setName(request.getName());
-        tournament.setStartDateTime(request.getStartDateTime());
-        tournament.setEndDateTime(request.getEndDateTime());
-        tournament.setMaxParticipants(request.getMaxParticipants());
-        tournament.setTennisClubId(clubId);
+        // Validate club exists via the club snapshot, or via club service while the entity is built
+        // Error responses are decoded by FeignErrorDecoder into ResponseStatusException,
+        // which GlobalExceptionHandler maps back to the original status code (404, 503, etc.)
+        // No transaction is open yet, so a slow club service does not hold a database connection
+        CompletableFuture<ClubResponse> club = lookupClub(clubId);
+        
+        Tournament tournament = toTournament(clubId, request);
+        
+        String clubName = AsyncClubServiceClient.join(club).getName();
         
-        Tournament savedTournament = tournamentRepository.save(tournament);
-        return mapToResponse(savedTournament);
+        Tournament savedTournament = transactionTemplate.execute(status -> tournamentRepository.save(tournament));
+        return mapToResponse(TournamentSummary.from(savedTournament), clubName, new ArrayList<>());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BulkTournamentResult> createTournaments(Long clubId, List<TournamentRequest> requests) {
+        // One club lookup for the whole batch, overlapped with validating every item
+        CompletableFuture<ClubResponse> club = lookupClub(clubId);
+
+        BulkTournamentResult[] results = new BulkTournamentResult[requests.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        List<Tournament> tournaments = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            String error = validate(requests.get(i));
+            if (error != null) {
+                results[i] = BulkTournamentResult.rejected(i, error);
+            } else {
+                validIndexes.add(i);
+                tournaments.add(toTournament(clubId, requests.get(i)));
+            }
+        }
+        // The club is resolved even if no item is valid, so an unknown club is still answered with 404
+        String clubName = AsyncClubServiceClient.join(club).getName();
+        if (tournaments.isEmpty()) {
+            return List.of(results);
+        }
+
+        // Inserts are sent in JDBC batches; a failure rolls back the whole batch
+        try {
+            List<Tournament> savedTournaments = transactionTemplate.execute(
+                    status -> tournamentRepository.saveAllAndFlush(tournaments));
+            for (int i = 0; i < savedTournaments.size(); i++) {
+                int index = validIndexes.get(i);
+                results[index] = BulkTournamentResult.created(index,
+                        mapToResponse(TournamentSummary.from(savedTournaments.get(i)), clubName, new ArrayList<>()));
+            }
+        } catch (DataIntegrityViolationException e) {
+            // One of the items was rejected by the database; insert one by one to find which
+            for (int i = 0; i < validIndexes.size(); i++) {
+                int index = validIndexes.get(i);
+                Tournament tournament = toTournament(clubId, requests.get(index));
+                try {
+                    Tournament savedTournament = transactionTemplate.execute(
+                            status -> tournamentRepository.saveAndFlush(tournament));
+                    results[index] = BulkTournamentResult.created(index,
+                            mapToResponse(TournamentSummary.from(savedTournament), clubName, new ArrayList<>()));
+                } catch (DataIntegrityViolationException violation) {
+                    results[index] = BulkTournamentResult.rejected(index, "Tournament could not be created");
+                }
+            }
+        }
+        return List.of(results);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TournamentResponse> getAllTournaments(Long clubId) {
-        List<Tournament> tournaments;
-        if (clubId != null) {
-            tournaments = tournamentRepository.findByTennisClubId(clubId);
-        } else {
-            tournaments = tournamentRepository.findAll();
-        }
-        return tournaments.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return mapToResponses(tournamentRepository.findSummaries(clubId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TournamentResponse> getTournamentsPage(Long clubId, Long afterId, int limit) {
+        Long cursor = afterId != null ? afterId : 0L;
+        return mapToResponses(tournamentRepository.findSummariesAfter(clubId, cursor, PageRequest.of(0, limit)));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void streamTournaments(Long clubId, Consumer<List<TournamentResponse>> chunkConsumer) {
+        // Each chunk is one keyset page read in its own short transaction; club names are resolved and the
+        // chunk is written without holding a database connection, however long the export takes
+        Long cursor = 0L;
+        List<TournamentSummary> chunk;
+        do {
+            chunk = tournamentRepository.findSummariesAfter(clubId, cursor, PageRequest.of(0, STREAM_CHUNK_SIZE));
+            if (!chunk.isEmpty()) {
+                chunkConsumer.accept(mapToResponses(chunk));
+                cursor = chunk.get(chunk.size() - 1).getId();
+            }
+        } while (chunk.size() == STREAM_CHUNK_SIZE);
     }
 
     @Override
     @Transactional(readOnly = true)
     public TournamentResponse getTournamentById(Long id) {
-        Tournament tournament = tournamentRepository.findById(id)
+        TournamentSummary tournament = tournamentRepository.findSummaryById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, 
                         "Tournament not found with id: " + id));
-        return mapToResponse(tournament);
+        return mapToResponses(List.of(tournament)).get(0);
     }
 
     @Override
     public void registerUserForTournament(Long tournamentId, Long userId) {
-        Tournament tournament = tournamentRepository.findById(tournamentId)
+        TournamentSummary tournament = tournamentRepository.findSummaryById(tournamentId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, 
                         "Tournament not found with id: " + tournamentId));
         
-        UserProfile user = userProfileRepository.findById(userId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, 
-                        "User not found with id: " + userId));
+        if (!userProfileRepository.existsById(userId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, 
+                    "User not found with id: " + userId);
+        }
         
         // Check if user is already registered
-        if (tournament.getParticipants().contains(user)) {
+        if (tournamentRepository.countParticipant(tournamentId, userId) > 0) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, 
                     "User is already registered for this tournament");
         }
         
-        // Check if max participants limit has been reached
-        if (tournament.getMaxParticipants() != null && 
-            tournament.getParticipants().size() >= tournament.getMaxParticipants()) {
+        // Take a seat atomically; fails when the max participants limit has been reached
+        if (tournamentRepository.reserveParticipantSlot(tournamentId) == 0) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, 
                     "Tournament has reached maximum number of participants");
         }
         
-        // TODO: Check for scheduling conflicts (user cannot register for two tournaments at the same time)
+        // Reject overlapping registrations; the index entry is dropped again if this transaction rolls back
+        schedulingConflictIndex.reserve(userId, EventType.TOURNAMENT, tournamentId,
+                tournament.getStartDateTime(), tournament.getEndDateTime());
         
-        tournament.getParticipants().add(user);
-        tournamentRepository.save(tournament);
+        try {
+            tournamentRepository.insertParticipant(tournamentId, userId);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request registered the same user first; the seat is released on rollback
+            throw new ResponseStatusException(HttpStatus.CONFLICT, 
+                    "User is already registered for this tournament");
+        }
     }
 
     @Override
     public void unregisterUserFromTournament(Long tournamentId, Long userId) {
-        Tournament tournament = tournamentRepository.findById(tournamentId)
+        TournamentSummary tournament = tournamentRepository.findSummaryById(tournamentId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, 
                         "Tournament not found with id: " + tournamentId));
         
-        UserProfile user = userProfileRepository.findById(userId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, 
-                        "User not found with id: " + userId));
+        if (!userProfileRepository.existsById(userId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, 
+                    "User not found with id: " + userId);
+        }
         
-        if (!tournament.getParticipants().contains(user)) {
+        if (tournamentRepository.deleteParticipant(tournamentId, userId) == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, 
                     "User is not registered for this tournament");
         }
-        
-        tournament.getParticipants().remove(user);
-        tournamentRepository.save(tournament);
+        tournamentRepository.releaseParticipantSlot(tournamentId);
+        schedulingConflictIndex.release(userId, EventType.TOURNAMENT, tournamentId, tournament.getStartDateTime());
     }
 
-    private TournamentResponse mapToResponse(Tournament tournament) {
+    /**
+     * Recompute participant counters from the join table once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void synchronizeParticipantCounts() {
+        tournamentRepository.synchronizeParticipantCounts();
+    }
+
+    private Tournament toTournament(Long clubId, TournamentRequest request) {
+        Tournament tournament = new Tournament();
+        tournament.setName(request.getName());
+        tournament.setStartDateTime(request.getStartDateTime());
+        tournament.setEndDateTime(request.getEndDateTime());
+        tournament.setMaxParticipants(request.getMaxParticipants());
+        tournament.setTennisClubId(clubId);
+        return tournament;
+    }
+
+    /**
+     * Checks of TournamentRequest's constraints and the date range for one bulk item, null when it is valid
+     */
+    private String validate(TournamentRequest request) {
+        if (request == null) {
+            return "Tournament is required";
+        }
+        String violation = Violations.firstMessage(validator, request);
+        if (violation != null) {
+            return violation;
+        }
+        if (request.getEndDateTime().isBefore(request.getStartDateTime())) {
+            return "End date and time must be after start date and time";
+        }
+        return null;
+    }
+
+    private CompletableFuture<ClubResponse> lookupClub(Long clubId) {
+        // Clubs missing from the snapshot may be new, so only those are checked remotely
+        ClubResponse knownClub = clubRegistry.getClub(clubId);
+        if (knownClub != null) {
+            return CompletableFuture.completedFuture(knownClub);
+        }
+        return asyncClubServiceClient.getClubById(clubId);
+    }
+
+    private List<TournamentResponse> mapToResponses(List<TournamentSummary> tournaments) {
+        if (tournaments.isEmpty()) {
+            return new ArrayList<>();
+        }
+        // Resolve club names once per distinct club, not once per tournament
+        Map<Long, String> clubNames = clubNameResolver.resolveNames(tournaments.stream()
+                .map(TournamentSummary::getTennisClubId)
+                .collect(Collectors.toList()));
+        // Load participant IDs for the whole page in one statement instead of initializing each participants set
+        List<RegistrationLink> participantLinks = tournamentRepository.findParticipantLinks(tournaments.stream()
+                .map(TournamentSummary::getId)
+                .collect(Collectors.toList()));
+        RequestMetrics.participantsLoaded(participantLinks.size());
+        Map<Long, List<Long>> participantIds = RegistrationLink.userIdsByEventId(participantLinks);
+        return tournaments.stream()
+                .map(tournament -> mapToResponse(tournament,
+                        clubNames.get(tournament.getTennisClubId()),
+                        participantIds.getOrDefault(tournament.getId(), new ArrayList<>())))
+                .collect(Collectors.toList());
+    }
+
+    private TournamentResponse mapToResponse(TournamentSummary tournament, String clubName, List<Long> participantIds) {
         TournamentResponse response = new TournamentResponse();
         response.setId(tournament.getId());
         response.setName(tournament.getName());
@@ -148,27 +309,14 @@ public class TournamentServiceImpl implements TournamentService {
         response.setEndDateTime(tournament.getEndDateTime());
         response.setMaxParticipants(tournament.getMaxParticipants());
         
-        // Fetch club information from club service
+        // Club name is resolved by the caller, null if the club service is unavailable
         if (tournament.getTennisClubId() != null) {
             response.setTennisClubId(tournament.getTennisClubId());
-            try {
-                ResponseEntity<ClubResponse> clubResponse = clubServiceClient.getClubById(tournament.getTennisClubId());
-                if (clubResponse.getStatusCode() == HttpStatus.OK && clubResponse.getBody() != null) {
-                    response.setTennisClubName(clubResponse.getBody().getName());
-                }
-            } catch (Exception e) {
-                // If club service is unavailable, set name to null
-                // This allows the response to still be returned
-                response.setTennisClubName(null);
-            }
+            response.setTennisClubName(clubName);
         }
         
-        if (tournament.getParticipants() != null) {
-            response.setParticipantIds(tournament.getParticipants().stream()
-                    .map(user -> user.getId())
-                    .collect(Collectors.toList()));
-            response.setCurrentParticipantCount(tournament.getParticipants().size());
-        }
+        response.setParticipantIds(participantIds);
+        response.setCurrentParticipantCount(participantIds.size());
         
         return response;
     }
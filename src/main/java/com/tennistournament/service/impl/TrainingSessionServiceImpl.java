@@ -1,63 +1,80 @@
 package com.tennistournament.service.impl;
 
-import com.tennistournament.client.ClubServiceClient;
+import com.tennistournament.client.AsyncClubServiceClient;
+import com.tennistournament.client.ClubNameResolver;
+import com.tennistournament.client.ClubRegistry;
 import com.tennistournament.client.dto.ClubResponse;
 import com.tennistournament.dto.TrainingSessionRequest;
 import com.tennistournament.dto.TrainingSessionResponse;
+import com.tennistournament.metrics.RequestMetrics;
 import com.tennistournament.model.TrainingSession;
-import com.tennistournament.model.UserProfile;
+import com.tennistournament.repository.RegistrationLink;
 import com.tennistournament.repository.TrainingSessionRepository;
+import com.tennistournament.repository.TrainingSessionSummary;
 import com.tennistournament.repository.UserProfileRepository;
 import com.tennistournament.service.TrainingSessionService;
+import com.tennistournament.service.impl.SchedulingConflictIndex.EventType;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
+@Timed(value = "service.calls", histogram = true)
 public class TrainingSessionServiceImpl implements TrainingSessionService {
 
     private final TrainingSessionRepository trainingSessionRepository;
     private final UserProfileRepository userProfileRepository;
-    private final ClubServiceClient clubServiceClient;
+    private final ClubNameResolver clubNameResolver;
+    private final ClubRegistry clubRegistry;
+    private final AsyncClubServiceClient asyncClubServiceClient;
+    private final SchedulingConflictIndex schedulingConflictIndex;
+    private final TransactionTemplate transactionTemplate;
 
     public TrainingSessionServiceImpl(TrainingSessionRepository trainingSessionRepository,
                                      UserProfileRepository userProfileRepository,
-                                     ClubServiceClient clubServiceClient) {
+                                     ClubNameResolver clubNameResolver,
+                                     ClubRegistry clubRegistry,
+                                     AsyncClubServiceClient asyncClubServiceClient,
+                                     SchedulingConflictIndex schedulingConflictIndex,
+                                     TransactionTemplate transactionTemplate) {
         this.trainingSessionRepository = trainingSessionRepository;
         this.userProfileRepository = userProfileRepository;
-        this.clubServiceClient = clubServiceClient;
+        this.clubNameResolver = clubNameResolver;
+        this.clubRegistry = clubRegistry;
+        this.asyncClubServiceClient = asyncClubServiceClient;
+        this.schedulingConflictIndex = schedulingConflictIndex;
+        this.transactionTemplate = transactionTemplate;
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TrainingSessionResponse createTrainingSession(Long clubId, TrainingSessionRequest request) {
-        // Validate club exists via club service
-        // FeignErrorDecoder will throw ResponseStatusException for 4xx/5xx responses
-        // which will be handled by GlobalExceptionHandler and preserve the status code
-        try {
-            ResponseEntity<ClubResponse> clubResponse = clubServiceClient.getClubById(clubId);
-            
-            // Check if response body is null (shouldn't happen for 200, but safety check)
-            if (clubResponse.getBody() == null) {
-                throw new ResponseStatusException(HttpStatus.NOT_FOUND, 
-                        "Tennis club not found with id: " + clubId);
-            }
-        } catch (ResponseStatusException e) {
-            // Re-throw to preserve status code (404, 503, etc.)
-            throw e;
-        }
-        
-        // Validate date range
+        // Validate date range before any club lookup is started, so a rejected request leaves none behind
         if (request.getEndDateTime().isBefore(request.getStartDateTime())) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, 
                     "End date and time must be after start date and time");
         }
         
+        // Validate club exists via the club snapshot, or via club service while the entity is built
+        // Error responses are decoded by FeignErrorDecoder into ResponseStatusException,
+        // which GlobalExceptionHandler maps back to the original status code (404, 503, etc.)
+        // No transaction is open yet, so a slow club service does not hold a database connection
+        CompletableFuture<ClubResponse> club = lookupClub(clubId);
+        
         TrainingSession session = new TrainingSession();
         session.setName(request.getName());
         session.setDescription(request.getDescription());
@@ -67,82 +84,121 @@ public class TrainingSessionServiceImpl implements TrainingSessionService {
         session.setCoachName(request.getCoachName());
         session.setTennisClubId(clubId);
         
-        TrainingSession savedSession = trainingSessionRepository.save(session);
-        return mapToResponse(savedSession);
+        String clubName = AsyncClubServiceClient.join(club).getName();
+        
+        TrainingSession savedSession = transactionTemplate.execute(status -> trainingSessionRepository.save(session));
+        return mapToResponse(TrainingSessionSummary.from(savedSession), clubName, new ArrayList<>());
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<TrainingSessionResponse> getAllTrainingSessions(Long clubId) {
-        List<TrainingSession> sessions;
-        if (clubId != null) {
-            sessions = trainingSessionRepository.findByTennisClubId(clubId);
-        } else {
-            sessions = trainingSessionRepository.findAll();
-        }
-        return sessions.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return mapToResponses(trainingSessionRepository.findSummaries(clubId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public TrainingSessionResponse getTrainingSessionById(Long id) {
-        TrainingSession session = trainingSessionRepository.findById(id)
+        TrainingSessionSummary session = trainingSessionRepository.findSummaryById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, 
                         "Training session not found with id: " + id));
-        return mapToResponse(session);
+        return mapToResponses(List.of(session)).get(0);
     }
 
     @Override
     public void registerUserForTrainingSession(Long sessionId, Long userId) {
-        TrainingSession session = trainingSessionRepository.findById(sessionId)
+        TrainingSessionSummary session = trainingSessionRepository.findSummaryById(sessionId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, 
                         "Training session not found with id: " + sessionId));
         
-        UserProfile user = userProfileRepository.findById(userId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, 
-                        "User not found with id: " + userId));
+        if (!userProfileRepository.existsById(userId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, 
+                    "User not found with id: " + userId);
+        }
         
         // Check if user is already registered
-        if (session.getAttendees().contains(user)) {
+        if (trainingSessionRepository.countAttendee(sessionId, userId) > 0) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, 
                     "User is already registered for this training session");
         }
         
-        // Check if max attendees limit has been reached
-        if (session.getMaxAttendees() != null && 
-            session.getAttendees().size() >= session.getMaxAttendees()) {
+        // Take a seat atomically; fails when the max attendees limit has been reached
+        if (trainingSessionRepository.reserveAttendeeSlot(sessionId) == 0) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, 
                     "Training session has reached maximum number of attendees");
         }
         
-        // TODO: Check for scheduling conflicts (user cannot register for two training sessions at the same time)
+        // Reject overlapping registrations; the index entry is dropped again if this transaction rolls back
+        schedulingConflictIndex.reserve(userId, EventType.TRAINING_SESSION, sessionId,
+                session.getStartDateTime(), session.getEndDateTime());
         
-        session.getAttendees().add(user);
-        trainingSessionRepository.save(session);
+        try {
+            trainingSessionRepository.insertAttendee(sessionId, userId);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request registered the same user first; the seat is released on rollback
+            throw new ResponseStatusException(HttpStatus.CONFLICT, 
+                    "User is already registered for this training session");
+        }
     }
 
     @Override
     public void unregisterUserFromTrainingSession(Long sessionId, Long userId) {
-        TrainingSession session = trainingSessionRepository.findById(sessionId)
+        TrainingSessionSummary session = trainingSessionRepository.findSummaryById(sessionId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, 
                         "Training session not found with id: " + sessionId));
         
-        UserProfile user = userProfileRepository.findById(userId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, 
-                        "User not found with id: " + userId));
+        if (!userProfileRepository.existsById(userId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, 
+                    "User not found with id: " + userId);
+        }
         
-        if (!session.getAttendees().contains(user)) {
+        if (trainingSessionRepository.deleteAttendee(sessionId, userId) == 0) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, 
                     "User is not registered for this training session");
         }
-        
-        session.getAttendees().remove(user);
-        trainingSessionRepository.save(session);
+        trainingSessionRepository.releaseAttendeeSlot(sessionId);
+        schedulingConflictIndex.release(userId, EventType.TRAINING_SESSION, sessionId, session.getStartDateTime());
     }
 
-    private TrainingSessionResponse mapToResponse(TrainingSession session) {
+    /**
+     * Recompute attendee counters from the join table once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void synchronizeAttendeeCounts() {
+        trainingSessionRepository.synchronizeAttendeeCounts();
+    }
+
+    private CompletableFuture<ClubResponse> lookupClub(Long clubId) {
+        // Clubs missing from the snapshot may be new, so only those are checked remotely
+        ClubResponse knownClub = clubRegistry.getClub(clubId);
+        if (knownClub != null) {
+            return CompletableFuture.completedFuture(knownClub);
+        }
+        return asyncClubServiceClient.getClubById(clubId);
+    }
+
+    private List<TrainingSessionResponse> mapToResponses(List<TrainingSessionSummary> sessions) {
+        if (sessions.isEmpty()) {
+            return new ArrayList<>();
+        }
+        // Resolve club names once per distinct club, not once per session
+        Map<Long, String> clubNames = clubNameResolver.resolveNames(sessions.stream()
+                .map(TrainingSessionSummary::getTennisClubId)
+                .collect(Collectors.toList()));
+        // Load attendee IDs for the whole page in one statement instead of initializing each attendees set
+        List<RegistrationLink> attendeeLinks = trainingSessionRepository.findAttendeeLinks(sessions.stream()
+                .map(TrainingSessionSummary::getId)
+                .collect(Collectors.toList()));
+        RequestMetrics.participantsLoaded(attendeeLinks.size());
+        Map<Long, List<Long>> attendeeIds = RegistrationLink.userIdsByEventId(attendeeLinks);
+        return sessions.stream()
+                .map(session -> mapToResponse(session,
+                        clubNames.get(session.getTennisClubId()),
+                        attendeeIds.getOrDefault(session.getId(), new ArrayList<>())))
+                .collect(Collectors.toList());
+    }
+
+    private TrainingSessionResponse mapToResponse(TrainingSessionSummary session, String clubName, List<Long> attendeeIds) {
         TrainingSessionResponse response = new TrainingSessionResponse();
         response.setId(session.getId());
         response.setName(session.getName());
@@ -152,27 +208,14 @@ public class TrainingSessionServiceImpl implements TrainingSessionService {
         response.setMaxAttendees(session.getMaxAttendees());
         response.setCoachName(session.getCoachName());
         
-        // Fetch club information from club service
+        // Club name is resolved by the caller, null if the club service is unavailable
         if (session.getTennisClubId() != null) {
             response.setTennisClubId(session.getTennisClubId());
-            try {
-                ResponseEntity<ClubResponse> clubResponse = clubServiceClient.getClubById(session.getTennisClubId());
-                if (clubResponse.getStatusCode() == HttpStatus.OK && clubResponse.getBody() != null) {
-                    response.setTennisClubName(clubResponse.getBody().getName());
-                }
-            } catch (Exception e) {
-                // If club service is unavailable, set name to null
-                // This allows the response to still be returned
-                response.setTennisClubName(null);
-            }
+            response.setTennisClubName(clubName);
         }
         
-        if (session.getAttendees() != null) {
-            response.setAttendeeIds(session.getAttendees().stream()
-                    .map(user -> user.getId())
-                    .collect(Collectors.toList()));
-            response.setCurrentAttendeeCount(session.getAttendees().size());
-        }
+        response.setAttendeeIds(attendeeIds);
+        response.setCurrentAttendeeCount(attendeeIds.size());
         
         return response;
     }
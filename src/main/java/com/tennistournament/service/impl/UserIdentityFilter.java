@@ -0,0 +1,126 @@
+package com.tennistournament.service.impl;
+
+import com.tennistournament.repository.UserIdentity;
+import com.tennistournament.repository.UserProfileRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory Bloom filter over the usernames and emails in use
+ * A miss means neither value is taken, so user creation can skip the uniqueness query and insert
+ * directly; a hit may be a false positive and is confirmed with one query. Values are only ever
+ * added, so renamed users and rolled back inserts just add false positives. Users created by other
+ * instances are not seen here; the unique constraints on user_profiles still reject them.
+ * Until the filter has been loaded, and when it is disabled, every value counts as possibly taken.
+ */
+@Component
+public class UserIdentityFilter {
+
+    private final UserProfileRepository userProfileRepository;
+    private final boolean enabled;
+    private final int bitCount;
+    private final int hashCount;
+    private final AtomicLongArray bits;
+    private volatile boolean loaded;
+
+    public UserIdentityFilter(UserProfileRepository userProfileRepository,
+                              @Value("${user.identity-filter.enabled:true}") boolean enabled,
+                              @Value("${user.identity-filter.expected-users:100000}") int expectedUsers,
+                              @Value("${user.identity-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userProfileRepository = userProfileRepository;
+        this.enabled = enabled;
+        // Two values (username and email) per user
+        long expectedValues = 2L * Math.max(expectedUsers, 1);
+        double optimalBits = -expectedValues * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        this.bitCount = (int) Math.min(Math.max(optimalBits, 64), Integer.MAX_VALUE - 63);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedValues * Math.log(2)));
+        this.bits = new AtomicLongArray(enabled ? (bitCount + 63) / 64 : 0);
+    }
+
+    /**
+     * Load all usernames and emails once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        for (UserIdentity identity : userProfileRepository.findAllIdentities()) {
+            add(identity.getUsername(), identity.getEmail());
+        }
+        loaded = true;
+    }
+
+    /**
+     * False only if neither the username nor the email is in use; null values are ignored
+     */
+    public boolean mightContain(String username, String email) {
+        if (!loaded) {
+            return true;
+        }
+        return (username != null && mightContain("u:" + username))
+                || (email != null && mightContain("e:" + email));
+    }
+
+    /**
+     * Record a username and email as in use
+     */
+    public void add(String username, String email) {
+        if (!enabled) {
+            return;
+        }
+        if (username != null) {
+            add("u:" + username);
+        }
+        if (email != null) {
+            add("e:" + email);
+        }
+    }
+
+    private boolean mightContain(String value) {
+        long hash = hash(value);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = bitIndex(hash, i);
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void add(String value) {
+        long hash = hash(value);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = bitIndex(hash, i);
+            long mask = 1L << bit;
+            bits.getAndAccumulate(bit >>> 6, mask, (word, m) -> word | m);
+        }
+    }
+
+    // Double hashing: the i-th index is h1 + i * h2 over the two halves of one 64-bit hash
+    private int bitIndex(long hash, int i) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        int combined = h1 + i * h2;
+        return (combined & Integer.MAX_VALUE) % bitCount;
+    }
+
+    // 64-bit FNV-1a over the characters, finished with the murmur3 mix to spread the high bits
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -1,59 +1,156 @@
 package com.tennistournament.service.impl;
 
+import com.tennistournament.dto.UserImportLine;
+import com.tennistournament.dto.UserImportResult;
 import com.tennistournament.dto.UserProfileRequest;
 import com.tennistournament.dto.UserProfileResponse;
+import com.tennistournament.dto.UserSearchResult;
+import com.tennistournament.metrics.RequestMetrics;
 import com.tennistournament.model.UserProfile;
+import com.tennistournament.repository.RegistrationLink;
+import com.tennistournament.repository.UserIdentity;
 import com.tennistournament.repository.UserProfileRepository;
 import com.tennistournament.service.UserProfileService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.Validator;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
+@Timed(value = "service.calls", histogram = true)
 public class UserProfileServiceImpl implements UserProfileService {
 
+    private static final int IMPORT_CHUNK_SIZE = 500;
+    private static final String REGISTERED_TOURNAMENT_IDS = "registeredTournamentIds";
+    private static final String REGISTERED_TRAINING_SESSION_IDS = "registeredTrainingSessionIds";
+    private static final List<String> USER_COLUMNS = List.of("username", "email", "firstName", "lastName",
+            "skillLevel");
+    // Field names of UserProfileResponse, in the order they are rendered
+    private static final List<String> USER_FIELDS = List.of("id", "username", "email", "firstName", "lastName",
+            "skillLevel", REGISTERED_TOURNAMENT_IDS, REGISTERED_TRAINING_SESSION_IDS);
+
     private final UserProfileRepository userProfileRepository;
+    private final UserIdentityFilter userIdentityFilter;
+    private final UserSearchIndex userSearchIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
 
-    public UserProfileServiceImpl(UserProfileRepository userProfileRepository) {
+    public UserProfileServiceImpl(UserProfileRepository userProfileRepository,
+                                  UserIdentityFilter userIdentityFilter,
+                                  UserSearchIndex userSearchIndex,
+                                  TransactionTemplate transactionTemplate,
+                                  Validator validator) {
         this.userProfileRepository = userProfileRepository;
+        this.userIdentityFilter = userIdentityFilter;
+        this.userSearchIndex = userSearchIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
     }
 
     @Override
     public UserProfileResponse createUser(UserProfileRequest request) {
-        // Check if username already exists
-        if (userProfileRepository.findByUsername(request.getUsername()).isPresent()) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, 
-                    "Username already exists: " + request.getUsername());
+        // Values the filter has never seen are free; otherwise check username and email in one query
+        if (userIdentityFilter.mightContain(request.getUsername(), request.getEmail())) {
+            checkUnique(request.getUsername(), request.getEmail());
         }
         
-        // Check if email already exists
-        if (userProfileRepository.findByEmail(request.getEmail()).isPresent()) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, 
-                    "Email already exists: " + request.getEmail());
+        UserProfile savedUser = saveUnique(toUserProfile(request));
+        userIdentityFilter.add(savedUser.getUsername(), savedUser.getEmail());
+        userSearchIndex.index(savedUser);
+        return mapToResponse(savedUser, new ArrayList<>(), new ArrayList<>());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void importUsers(Iterator<UserImportLine> lines, Consumer<List<UserImportResult>> chunkConsumer) {
+        // Lines are consumed as they are parsed; only one chunk is held in memory at a time
+        List<UserImportLine> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        while (lines.hasNext()) {
+            chunk.add(lines.next());
+            if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                chunkConsumer.accept(importChunk(chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunkConsumer.accept(importChunk(chunk));
         }
-        
-        UserProfile user = new UserProfile();
-        user.setUsername(request.getUsername());
-        user.setEmail(request.getEmail());
-        user.setFirstName(request.getFirstName());
-        user.setLastName(request.getLastName());
-        user.setSkillLevel(request.getSkillLevel());
-        
-        UserProfile savedUser = userProfileRepository.save(user);
-        return mapToResponse(savedUser);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<UserProfileResponse> getAllUsers() {
-        return userProfileRepository.findAll().stream()
-                .map(this::mapToResponse)
+        return mapToResponses(userProfileRepository.findAll());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getUsers(Long afterId, Integer limit, List<String> fields) {
+        Set<String> requested = fields == null || fields.isEmpty() ? new HashSet<>(USER_FIELDS) : new HashSet<>(fields);
+        for (String field : requested) {
+            if (!USER_FIELDS.contains(field)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, 
+                        "Unknown field: " + field + ". Allowed fields: " + String.join(",", USER_FIELDS));
+            }
+        }
+
+        // Only the requested columns are selected; the ID is always included as it is the page cursor
+        List<String> columns = USER_COLUMNS.stream()
+                .filter(requested::contains)
                 .collect(Collectors.toList());
+        List<Object[]> rows = userProfileRepository.findColumnsAfter(columns, afterId != null ? afterId : 0L, limit);
+        List<Long> userIds = rows.stream()
+                .map(row -> (Long) row[0])
+                .collect(Collectors.toList());
+
+        // Registration IDs are loaded only when asked for
+        Map<Long, List<Long>> tournamentIds = null;
+        Map<Long, List<Long>> trainingSessionIds = null;
+        if (!userIds.isEmpty() && requested.contains(REGISTERED_TOURNAMENT_IDS)) {
+            List<RegistrationLink> links = userProfileRepository.findTournamentLinks(userIds);
+            RequestMetrics.participantsLoaded(links.size());
+            tournamentIds = RegistrationLink.eventIdsByUserId(links);
+        }
+        if (!userIds.isEmpty() && requested.contains(REGISTERED_TRAINING_SESSION_IDS)) {
+            List<RegistrationLink> links = userProfileRepository.findTrainingSessionLinks(userIds);
+            RequestMetrics.participantsLoaded(links.size());
+            trainingSessionIds = RegistrationLink.eventIdsByUserId(links);
+        }
+
+        List<Map<String, Object>> users = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Map<String, Object> user = new LinkedHashMap<>();
+            user.put("id", row[0]);
+            for (int i = 0; i < columns.size(); i++) {
+                user.put(columns.get(i), row[i + 1]);
+            }
+            if (tournamentIds != null) {
+                user.put(REGISTERED_TOURNAMENT_IDS, tournamentIds.getOrDefault(row[0], new ArrayList<>()));
+            }
+            if (trainingSessionIds != null) {
+                user.put(REGISTERED_TRAINING_SESSION_IDS, trainingSessionIds.getOrDefault(row[0], new ArrayList<>()));
+            }
+            users.add(user);
+        }
+        return users;
     }
 
     @Override
@@ -62,7 +159,14 @@ public class UserProfileServiceImpl implements UserProfileService {
         UserProfile user = userProfileRepository.findById(id)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, 
                         "User not found with id: " + id));
-        return mapToResponse(user);
+        return mapToResponses(List.of(user)).get(0);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<UserSearchResult> searchUsers(String query, String skillLevel, int limit) {
+        // Served from the in-memory index; no transaction, so no connection is taken for a keystroke
+        return userSearchIndex.search(query, skillLevel, limit);
     }
 
     @Override
@@ -71,33 +175,219 @@ public class UserProfileServiceImpl implements UserProfileService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, 
                         "User not found with id: " + id));
         
-        // Check if username is being changed and if new username already exists
-        if (!user.getUsername().equals(request.getUsername())) {
-            if (userProfileRepository.findByUsername(request.getUsername()).isPresent()) {
-                throw new ResponseStatusException(HttpStatus.CONFLICT, 
-                        "Username already exists: " + request.getUsername());
-            }
+        // Only changed values can collide with another user
+        String newUsername = user.getUsername().equals(request.getUsername()) ? null : request.getUsername();
+        String newEmail = user.getEmail().equals(request.getEmail()) ? null : request.getEmail();
+        if ((newUsername != null || newEmail != null) && userIdentityFilter.mightContain(newUsername, newEmail)) {
+            checkUnique(newUsername, newEmail);
         }
         
-        // Check if email is being changed and if new email already exists
-        if (!user.getEmail().equals(request.getEmail())) {
-            if (userProfileRepository.findByEmail(request.getEmail()).isPresent()) {
-                throw new ResponseStatusException(HttpStatus.CONFLICT, 
-                        "Email already exists: " + request.getEmail());
+        user.setUsername(request.getUsername());
+        user.setEmail(request.getEmail());
+        user.setFirstName(request.getFirstName());
+        user.setLastName(request.getLastName());
+        user.setSkillLevel(request.getSkillLevel());
+        
+        UserProfile updatedUser = saveUnique(user);
+        userIdentityFilter.add(updatedUser.getUsername(), updatedUser.getEmail());
+        userSearchIndex.index(updatedUser);
+        return mapToResponses(List.of(updatedUser)).get(0);
+    }
+
+    /**
+     * Validate a chunk of import lines, check it against existing users in one statement
+     * and insert the remaining users in JDBC batches, in a transaction of its own
+     * Earlier chunks are committed by then, so duplicates across chunks are found as existing users
+     */
+    private List<UserImportResult> importChunk(List<UserImportLine> chunk) {
+        UserImportResult[] results = new UserImportResult[chunk.size()];
+        Map<Integer, UserProfileRequest> accepted = new LinkedHashMap<>();
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        boolean mightExist = false;
+        for (int i = 0; i < chunk.size(); i++) {
+            UserImportLine line = chunk.get(i);
+            UserProfileRequest request = line.getRequest();
+            String error = line.getError() != null ? line.getError() : validate(request);
+            if (error == null && usernames.contains(request.getUsername())) {
+                error = "Duplicate username in import: " + request.getUsername();
+            }
+            if (error == null && emails.contains(request.getEmail())) {
+                error = "Duplicate email in import: " + request.getEmail();
+            }
+            if (error != null) {
+                results[i] = UserImportResult.rejected(line.getLine(), error);
+                continue;
             }
+            usernames.add(request.getUsername());
+            emails.add(request.getEmail());
+            accepted.put(i, request);
+            mightExist |= userIdentityFilter.mightContain(request.getUsername(), request.getEmail());
         }
-        
+
+        // Skipped when the filter has seen none of the values
+        if (mightExist) {
+            Set<String> takenUsernames = new HashSet<>();
+            Set<String> takenEmails = new HashSet<>();
+            for (UserIdentity taken : userProfileRepository.findIdentitiesByUsernameInOrEmailIn(usernames, emails)) {
+                takenUsernames.add(taken.getUsername());
+                takenEmails.add(taken.getEmail());
+            }
+            accepted.entrySet().removeIf(entry -> {
+                int index = entry.getKey();
+                UserProfileRequest request = entry.getValue();
+                if (takenUsernames.contains(request.getUsername())) {
+                    results[index] = UserImportResult.rejected(chunk.get(index).getLine(),
+                            "Username already exists: " + request.getUsername());
+                    return true;
+                }
+                if (takenEmails.contains(request.getEmail())) {
+                    results[index] = UserImportResult.rejected(chunk.get(index).getLine(),
+                            "Email already exists: " + request.getEmail());
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        if (!accepted.isEmpty()) {
+            insertChunk(chunk, accepted, results);
+        }
+        return List.of(results);
+    }
+
+    private void insertChunk(List<UserImportLine> chunk, Map<Integer, UserProfileRequest> accepted,
+                             UserImportResult[] results) {
+        List<UserProfile> users = accepted.values().stream()
+                .map(this::toUserProfile)
+                .collect(Collectors.toList());
+        try {
+            List<UserProfile> savedUsers = transactionTemplate.execute(status -> {
+                List<UserProfile> saved = userProfileRepository.saveAllAndFlush(users);
+                saved.forEach(userSearchIndex::index);
+                return saved;
+            });
+            int i = 0;
+            for (int index : accepted.keySet()) {
+                results[index] = created(chunk.get(index).getLine(), savedUsers.get(i++));
+            }
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request took one of the values; insert one by one to find which
+            for (Map.Entry<Integer, UserProfileRequest> entry : accepted.entrySet()) {
+                int line = chunk.get(entry.getKey()).getLine();
+                UserProfile user = toUserProfile(entry.getValue());
+                try {
+                    results[entry.getKey()] = created(line, transactionTemplate.execute(status -> {
+                        UserProfile saved = userProfileRepository.saveAndFlush(user);
+                        userSearchIndex.index(saved);
+                        return saved;
+                    }));
+                } catch (DataIntegrityViolationException violation) {
+                    String message = uniqueViolationMessage(user, violation);
+                    results[entry.getKey()] = UserImportResult.rejected(line,
+                            message != null ? message : "User could not be created");
+                }
+            }
+        }
+    }
+
+    private UserImportResult created(int line, UserProfile user) {
+        userIdentityFilter.add(user.getUsername(), user.getEmail());
+        return UserImportResult.created(line, mapToResponse(user, new ArrayList<>(), new ArrayList<>()));
+    }
+
+    // UserProfileRequest's constraints, reported per line instead of failing the import
+    private String validate(UserProfileRequest request) {
+        if (request == null) {
+            return "User is required";
+        }
+        return Violations.firstMessage(validator, request);
+    }
+
+    private UserProfile toUserProfile(UserProfileRequest request) {
+        UserProfile user = new UserProfile();
         user.setUsername(request.getUsername());
         user.setEmail(request.getEmail());
         user.setFirstName(request.getFirstName());
         user.setLastName(request.getLastName());
         user.setSkillLevel(request.getSkillLevel());
-        
-        UserProfile updatedUser = userProfileRepository.save(user);
-        return mapToResponse(updatedUser);
+        return user;
+    }
+
+    /**
+     * Reject a username or email held by another user; null values are not checked
+     */
+    private void checkUnique(String username, String email) {
+        List<UserIdentity> taken = userProfileRepository.findIdentitiesByUsernameOrEmail(username, email);
+        if (username != null && taken.stream().anyMatch(identity -> username.equals(identity.getUsername()))) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, 
+                    "Username already exists: " + username);
+        }
+        if (email != null && taken.stream().anyMatch(identity -> email.equals(identity.getEmail()))) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, 
+                    "Email already exists: " + email);
+        }
+    }
+
+    /**
+     * Flush right away so a unique constraint violation surfaces here as the same 409 as the query check
+     * (the filter skipped the check, or a concurrent request took the value in between)
+     */
+    private UserProfile saveUnique(UserProfile user) {
+        try {
+            return userProfileRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            String message = uniqueViolationMessage(user, e);
+            if (message == null) {
+                throw e;
+            }
+            throw new ResponseStatusException(HttpStatus.CONFLICT, message);
+        }
+    }
+
+    /**
+     * Conflict message for a violated username or email unique constraint, or null for other violations
+     * Some databases report the constraint with a schema prefix or as the name of its index, so the name
+     * reported by Hibernate only has to contain the constraint's name
+     */
+    private static String uniqueViolationMessage(UserProfile user, DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                String constraintName = violation.getConstraintName().toLowerCase(Locale.ROOT);
+                if (constraintName.contains(UserProfile.EMAIL_CONSTRAINT)) {
+                    return "Email already exists: " + user.getEmail();
+                }
+                if (constraintName.contains(UserProfile.USERNAME_CONSTRAINT)) {
+                    return "Username already exists: " + user.getUsername();
+                }
+                return null;
+            }
+        }
+        return null;
     }
 
-    private UserProfileResponse mapToResponse(UserProfile user) {
+    private List<UserProfileResponse> mapToResponses(List<UserProfile> users) {
+        if (users.isEmpty()) {
+            return new ArrayList<>();
+        }
+        // Load registration IDs for the whole page in two statements instead of initializing
+        // registeredTournaments and registeredTrainingSessions for every user
+        List<Long> userIds = users.stream()
+                .map(UserProfile::getId)
+                .collect(Collectors.toList());
+        List<RegistrationLink> tournamentLinks = userProfileRepository.findTournamentLinks(userIds);
+        List<RegistrationLink> trainingSessionLinks = userProfileRepository.findTrainingSessionLinks(userIds);
+        RequestMetrics.participantsLoaded(tournamentLinks.size() + trainingSessionLinks.size());
+        Map<Long, List<Long>> tournamentIds = RegistrationLink.eventIdsByUserId(tournamentLinks);
+        Map<Long, List<Long>> trainingSessionIds = RegistrationLink.eventIdsByUserId(trainingSessionLinks);
+        return users.stream()
+                .map(user -> mapToResponse(user,
+                        tournamentIds.getOrDefault(user.getId(), new ArrayList<>()),
+                        trainingSessionIds.getOrDefault(user.getId(), new ArrayList<>())))
+                .collect(Collectors.toList());
+    }
+
+    private UserProfileResponse mapToResponse(UserProfile user, List<Long> tournamentIds, List<Long> trainingSessionIds) {
         UserProfileResponse response = new UserProfileResponse();
         response.setId(user.getId());
         response.setUsername(user.getUsername());
@@ -105,20 +395,8 @@ public class UserProfileServiceImpl implements UserProfileService {
         response.setFirstName(user.getFirstName());
         response.setLastName(user.getLastName());
         response.setSkillLevel(user.getSkillLevel());
-        
-        if (user.getRegisteredTournaments() != null) {
-            response.setRegisteredTournamentIds(user.getRegisteredTournaments().stream()
-                    .map(tournament -> tournament.getId())
-                    .collect(Collectors.toList()));
-        }
-        
-        if (user.getRegisteredTrainingSessions() != null) {
-            response.setRegisteredTrainingSessionIds(user.getRegisteredTrainingSessions().stream()
-                    .map(session -> session.getId())
-                    .collect(Collectors.toList()));
-        }
-        
+        response.setRegisteredTournamentIds(tournamentIds);
+        response.setRegisteredTrainingSessionIds(trainingSessionIds);
         return response;
     }
 }
-
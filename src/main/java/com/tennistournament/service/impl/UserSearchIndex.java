@@ -0,0 +1,245 @@
+package com.tennistournament.service.impl;
+
+import com.tennistournament.dto.UserSearchResult;
+import com.tennistournament.model.UserProfile;
+import com.tennistournament.repository.UserProfileRepository;
+import com.tennistournament.repository.UserSearchFields;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory prefix index for member search over username, first name, last name and email
+ * Every field is split into lowercase word tokens (the whole value is kept as a token as well, so
+ * "john.smith@" still matches an email); a sorted token map finds all tokens starting with a search
+ * term with one range lookup. Candidates come from the longest search term, every other term must
+ * prefix-match a token of the same user. Matches on the username rank above names, names above email,
+ * and whole-token matches above prefixes. At most max-candidates users of the requested skill level are
+ * scored per search, so short, common prefixes stay fast. Tokens are visited in lexicographic order, so once
+ * the cap is reached, users reached only through later tokens are not scored, even if they would rank higher.
+ * Built at startup and updated when user changes are committed. Searches never touch the database.
+ */
+@Component
+public class UserSearchIndex {
+
+    private static final int USERNAME = 0;
+    private static final int FIRST_NAME = 1;
+    private static final int LAST_NAME = 2;
+    private static final int EMAIL = 3;
+    private static final int[] FIELD_WEIGHTS = {4, 3, 3, 1};
+
+    // Lowest ranked first, so the head of the top-K heap is the one to drop
+    private static final Comparator<Match> RANKING = Comparator
+            .comparingInt((Match match) -> match.score)
+            .thenComparing((Match match) -> match.document.username, Comparator.reverseOrder());
+
+    private final UserProfileRepository userProfileRepository;
+    private final int maxCandidates;
+    private final NavigableMap<String, Set<Long>> tokens = new ConcurrentSkipListMap<>();
+    private final Map<Long, UserDocument> documents = new ConcurrentHashMap<>();
+
+    public UserSearchIndex(UserProfileRepository userProfileRepository,
+                           @Value("${user.search.max-candidates:10000}") int maxCandidates) {
+        this.userProfileRepository = userProfileRepository;
+        this.maxCandidates = maxCandidates;
+    }
+
+    /**
+     * Rebuild the index from the user profiles table
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        tokens.clear();
+        documents.clear();
+        for (UserSearchFields user : userProfileRepository.findAllSearchFields()) {
+            put(new UserDocument(user.getId(), user.getUsername(), user.getEmail(), user.getFirstName(),
+                    user.getLastName(), user.getSkillLevel()));
+        }
+    }
+
+    /**
+     * Index a created or updated user once the surrounding transaction commits
+     */
+    public void index(UserProfile user) {
+        UserDocument document = new UserDocument(user.getId(), user.getUsername(), user.getEmail(),
+                user.getFirstName(), user.getLastName(), user.getSkillLevel());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(document);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(document);
+            }
+        });
+    }
+
+    /**
+     * Best matches for the query, highest score first; every whitespace-separated term must be
+     * a prefix of a token of the user. skillLevel, if given, must match exactly (ignoring case)
+     */
+    public List<UserSearchResult> search(String query, String skillLevel, int limit) {
+        List<String> terms = new ArrayList<>();
+        for (String term : query.toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        if (terms.isEmpty()) {
+            return new ArrayList<>();
+        }
+        String driver = terms.stream().max(Comparator.comparingInt(String::length)).get();
+
+        PriorityQueue<Match> top = new PriorityQueue<>(RANKING);
+        Set<Long> seen = new HashSet<>();
+        scan:
+        for (Set<Long> ids : tokens.subMap(driver, true, driver + Character.MAX_VALUE, false).values()) {
+            for (Long id : ids) {
+                // Users filtered out by skill level do not count against the candidate cap
+                UserDocument document = documents.get(id);
+                if (document == null
+                        || (skillLevel != null && !skillLevel.equalsIgnoreCase(document.skillLevel))
+                        || !seen.add(id)) {
+                    continue;
+                }
+                if (seen.size() > maxCandidates) {
+                    break scan;
+                }
+                int score = document.score(terms);
+                if (score > 0) {
+                    top.offer(new Match(document, score));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            }
+        }
+
+        List<Match> matches = new ArrayList<>(top);
+        matches.sort(RANKING.reversed());
+        List<UserSearchResult> results = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            UserDocument document = match.document;
+            results.add(new UserSearchResult(document.id, document.username, document.email, document.firstName,
+                    document.lastName, document.skillLevel, match.score));
+        }
+        return results;
+    }
+
+    // Writes are serialized; searches read the concurrent maps without locking
+    private synchronized void put(UserDocument document) {
+        UserDocument previous = documents.put(document.id, document);
+        if (previous != null) {
+            for (String token : previous.allTokens) {
+                if (!document.allTokens.contains(token)) {
+                    Set<Long> ids = tokens.get(token);
+                    if (ids != null) {
+                        ids.remove(document.id);
+                        if (ids.isEmpty()) {
+                            tokens.remove(token);
+                        }
+                    }
+                }
+            }
+        }
+        for (String token : document.allTokens) {
+            tokens.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(document.id);
+        }
+    }
+
+    /**
+     * Lowercase word tokens of a field value, plus the whole value when it has several words
+     */
+    private static Set<String> tokenize(String value) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (value == null || value.isBlank()) {
+            return tokens;
+        }
+        String lower = value.strip().toLowerCase(Locale.ROOT);
+        for (String token : lower.split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        tokens.add(lower);
+        return tokens;
+    }
+
+    private static final class UserDocument {
+        private final Long id;
+        private final String username;
+        private final String email;
+        private final String firstName;
+        private final String lastName;
+        private final String skillLevel;
+        private final String[][] fieldTokens;
+        private final Set<String> allTokens = new HashSet<>();
+
+        private UserDocument(Long id, String username, String email, String firstName, String lastName,
+                             String skillLevel) {
+            this.id = id;
+            this.username = username;
+            this.email = email;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.skillLevel = skillLevel;
+            this.fieldTokens = new String[4][];
+            this.fieldTokens[USERNAME] = tokenize(username).toArray(new String[0]);
+            this.fieldTokens[FIRST_NAME] = tokenize(firstName).toArray(new String[0]);
+            this.fieldTokens[LAST_NAME] = tokenize(lastName).toArray(new String[0]);
+            this.fieldTokens[EMAIL] = tokenize(email).toArray(new String[0]);
+            for (String[] field : fieldTokens) {
+                allTokens.addAll(List.of(field));
+            }
+        }
+
+        // Sum of the best match of every term, or 0 if a term matches no token
+        private int score(List<String> terms) {
+            int total = 0;
+            for (String term : terms) {
+                int best = 0;
+                for (int field = 0; field < fieldTokens.length; field++) {
+                    for (String token : fieldTokens[field]) {
+                        if (token.equals(term)) {
+                            best = Math.max(best, 2 * FIELD_WEIGHTS[field]);
+                        } else if (token.startsWith(term)) {
+                            best = Math.max(best, FIELD_WEIGHTS[field]);
+                        }
+                    }
+                }
+                if (best == 0) {
+                    return 0;
+                }
+                total += best;
+            }
+            return total;
+        }
+    }
+
+    private static final class Match {
+        private final UserDocument document;
+        private final int score;
+
+        private Match(UserDocument document, int score) {
+            this.document = document;
+            this.score = score;
+        }
+    }
+}
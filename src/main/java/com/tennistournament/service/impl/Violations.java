@@ -0,0 +1,31 @@
+package com.tennistournament.service.impl;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.util.Comparator;
+
+/**
+ * Validation of items of bulk requests, which are reported one result per item instead of failing the request
+ * The same constraint annotations as for single requests apply, checked with the application's Validator
+ */
+final class Violations {
+
+    private static final Comparator<ConstraintViolation<?>> BY_PATH_AND_MESSAGE = Comparator
+            .comparing((ConstraintViolation<?> violation) -> violation.getPropertyPath().toString())
+            .thenComparing(ConstraintViolation::getMessage);
+
+    private Violations() {
+    }
+
+    /**
+     * Message of the first violated constraint, or null when the item is valid
+     * Violations come back unordered, so the first one by property path and message is reported
+     */
+    static String firstMessage(Validator validator, Object item) {
+        return validator.validate(item).stream()
+                .min(BY_PATH_AND_MESSAGE)
+                .map(ConstraintViolation::getMessage)
+                .orElse(null);
+    }
+}
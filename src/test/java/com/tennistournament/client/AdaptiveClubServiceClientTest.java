@@ -0,0 +1,191 @@
+package com.tennistournament.client;
+
+import com.tennistournament.client.dto.ClubResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AdaptiveClubServiceClient Tests")
+class AdaptiveClubServiceClientTest {
+
+    private static final int MIN_SAMPLES = 5;
+
+    @Mock
+    private ClubServiceClient delegate;
+
+    private MeterRegistry meterRegistry;
+    private ClubResponse club;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        club = new ClubResponse(1L, "Center Court", "1 Main St");
+    }
+
+    @Test
+    @DisplayName("Should wait up to the static read timeout while too few latencies were recorded")
+    @Timeout(10)
+    void shouldUseMaxTimeout_WhenWarmingUp() {
+        // Arrange
+        AdaptiveClubServiceClient adaptiveClient = adaptiveClient(false);
+        when(delegate.getClubById(1L)).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return ResponseEntity.ok(club);
+        });
+
+        // Act
+        ResponseEntity<ClubResponse> response = adaptiveClient.getClubById(1L);
+
+        // Assert
+        assertThat(response.getBody()).isEqualTo(club);
+        assertThat(meterRegistry.counter("club.client.adaptive.timeouts").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should fail with 504 when a call is much slower than the recent latencies")
+    @Timeout(10)
+    void shouldThrowGatewayTimeout_WhenCallExceedsAdaptiveTimeout() {
+        // Arrange
+        AdaptiveClubServiceClient adaptiveClient = adaptiveClient(false);
+        warmUp(adaptiveClient);
+        when(delegate.getClubById(2L)).thenAnswer(invocation -> {
+            Thread.sleep(2000);
+            return ResponseEntity.ok(club);
+        });
+
+        // Act & Assert
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> adaptiveClient.getClubById(2L))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(e -> assertThat(((ResponseStatusException) e).getStatusCode())
+                        .isEqualTo(HttpStatus.GATEWAY_TIMEOUT));
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+        assertThat(meterRegistry.counter("club.client.adaptive.timeouts").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return the hedged response when the first request stalls")
+    @Timeout(10)
+    void shouldReturnHedgedResponse_WhenFirstRequestStalls() throws Exception {
+        // Arrange
+        AdaptiveClubServiceClient adaptiveClient = adaptiveClient(true);
+        warmUp(adaptiveClient);
+        CountDownLatch releaseStalled = new CountDownLatch(1);
+        when(delegate.getClubById(2L))
+                .thenAnswer(invocation -> {
+                    releaseStalled.await(5, TimeUnit.SECONDS);
+                    return ResponseEntity.ok(club);
+                })
+                .thenReturn(ResponseEntity.ok(new ClubResponse(2L, "Clay Court", "2 Main St")));
+
+        // Act
+        ResponseEntity<ClubResponse> response = adaptiveClient.getClubById(2L);
+        releaseStalled.countDown();
+
+        // Assert
+        assertThat(response.getBody().getName()).isEqualTo("Clay Court");
+        assertThat(meterRegistry.counter("club.client.adaptive.hedges", "result", "sent").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("club.client.adaptive.hedges", "result", "won").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should interrupt a call once its adaptive timeout has passed")
+    @Timeout(10)
+    void shouldInterruptCall_WhenTimedOut() throws Exception {
+        // Arrange
+        AdaptiveClubServiceClient adaptiveClient = adaptiveClient(false);
+        warmUp(adaptiveClient);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(delegate.getClubById(2L)).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return ResponseEntity.ok(club);
+        });
+
+        // Act
+        assertThatThrownBy(() -> adaptiveClient.getClubById(2L)).isInstanceOf(ResponseStatusException.class);
+
+        // Assert
+        assertThat(interrupted.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should fail with 503 instead of running on the caller when every request thread is busy")
+    @Timeout(10)
+    void shouldThrowServiceUnavailable_WhenPoolSaturated() {
+        // Arrange
+        AdaptiveClubServiceClient adaptiveClient = new AdaptiveClubServiceClient(delegate, Duration.ofMillis(50),
+                Duration.ofMillis(100), Duration.ofMillis(200), Duration.ofMinutes(1), MIN_SAMPLES, false, 1,
+                meterRegistry);
+        CountDownLatch releaseStuck = new CountDownLatch(1);
+        when(delegate.getClubById(2L)).thenAnswer(invocation -> {
+            // Like a blocking socket read, the call does not react to the interrupt
+            while (releaseStuck.getCount() > 0) {
+                try {
+                    releaseStuck.await();
+                } catch (InterruptedException ignored) {
+                    // keep blocking
+                }
+            }
+            return ResponseEntity.ok(club);
+        });
+        assertThatThrownBy(() -> adaptiveClient.getClubById(2L))
+                .satisfies(e -> assertThat(((ResponseStatusException) e).getStatusCode())
+                        .isEqualTo(HttpStatus.GATEWAY_TIMEOUT));
+
+        // Act & Assert
+        assertThatThrownBy(() -> adaptiveClient.getClubById(2L))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(e -> assertThat(((ResponseStatusException) e).getStatusCode())
+                        .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        assertThat(meterRegistry.counter("club.client.adaptive.rejected").count()).isEqualTo(1);
+        releaseStuck.countDown();
+    }
+
+    @Test
+    @DisplayName("Should propagate exceptions of the club service unchanged")
+    void shouldThrowException_WhenDelegateFails() {
+        // Arrange
+        AdaptiveClubServiceClient adaptiveClient = adaptiveClient(false);
+        when(delegate.getClubById(3L)).thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Club not found"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> adaptiveClient.getClubById(3L))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("Club not found");
+    }
+
+    private AdaptiveClubServiceClient adaptiveClient(boolean hedgingEnabled) {
+        return new AdaptiveClubServiceClient(delegate, Duration.ofMillis(50), Duration.ofSeconds(5),
+                Duration.ofMillis(200), Duration.ofMinutes(1), MIN_SAMPLES, hedgingEnabled, 8, meterRegistry);
+    }
+
+    private void warmUp(AdaptiveClubServiceClient adaptiveClient) {
+        when(delegate.getClubById(1L)).thenReturn(ResponseEntity.ok(club));
+        for (int i = 0; i < MIN_SAMPLES; i++) {
+            adaptiveClient.getClubById(1L);
+        }
+    }
+}
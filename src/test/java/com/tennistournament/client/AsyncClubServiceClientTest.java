@@ -0,0 +1,105 @@
+package com.tennistournament.client;
+
+import com.tennistournament.client.dto.ClubResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AsyncClubServiceClient Tests")
+class AsyncClubServiceClientTest {
+
+    @Mock
+    private ClubServiceClient clubServiceClient;
+
+    private AsyncClubServiceClient asyncClubServiceClient;
+
+    @BeforeEach
+    void setUp() {
+        asyncClubServiceClient = new AsyncClubServiceClient(clubServiceClient, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncClubServiceClient.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should return club when club service responds with 200")
+    void shouldReturnClub_WhenClubExists() {
+        // Arrange
+        when(clubServiceClient.getClubById(1L))
+                .thenReturn(ResponseEntity.ok(new ClubResponse(1L, "Center Court", "1 Main St")));
+
+        // Act
+        ClubResponse club = AsyncClubServiceClient.join(asyncClubServiceClient.getClubById(1L));
+
+        // Assert
+        assertThat(club.getId()).isEqualTo(1L);
+        assertThat(club.getName()).isEqualTo("Center Court");
+    }
+
+    @Test
+    @DisplayName("Should rethrow 404 from the club client unwrapped")
+    void shouldThrowNotFound_WhenClubDoesNotExist() {
+        // Arrange
+        when(clubServiceClient.getClubById(2L))
+                .thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Club not found"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> AsyncClubServiceClient.join(asyncClubServiceClient.getClubById(2L)))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(e -> assertThat(((ResponseStatusException) e).getStatusCode())
+                        .isEqualTo(HttpStatus.NOT_FOUND));
+    }
+
+    @Test
+    @DisplayName("Should fail with the fallback status when the club client answers from its fallback")
+    void shouldThrowServiceUnavailable_WhenFallbackAnswers() {
+        // Arrange
+        when(clubServiceClient.getClubById(1L)).thenReturn(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+
+        // Act & Assert
+        assertThatThrownBy(() -> AsyncClubServiceClient.join(asyncClubServiceClient.getClubById(1L)))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(e -> assertThat(((ResponseStatusException) e).getStatusCode())
+                        .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups from the club cache of the decorated client")
+    void shouldCallClubServiceOnce_WhenDecoratedClientCaches() {
+        // Arrange
+        when(clubServiceClient.getClubById(1L))
+                .thenReturn(ResponseEntity.ok(new ClubResponse(1L, "Center Court", "1 Main St")));
+        CachingClubServiceClient cachingClient = new CachingClubServiceClient(clubServiceClient, 100,
+                Duration.ofMinutes(10), Duration.ofHours(1), Duration.ofMinutes(1), 2, new SimpleMeterRegistry());
+        AsyncClubServiceClient cachedAsyncClient = new AsyncClubServiceClient(cachingClient, 2);
+
+        // Act
+        AsyncClubServiceClient.join(cachedAsyncClient.getClubById(1L));
+        ClubResponse club = AsyncClubServiceClient.join(cachedAsyncClient.getClubById(1L));
+
+        // Assert
+        assertThat(club.getName()).isEqualTo("Center Court");
+        verify(clubServiceClient, times(1)).getClubById(1L);
+        cachedAsyncClient.shutdown();
+        cachingClient.shutdown();
+    }
+}
@@ -0,0 +1,181 @@
+package com.tennistournament.client;
+
+import com.tennistournament.client.dto.ClubResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CachingClubServiceClient Tests")
+class CachingClubServiceClientTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final Duration MAX_STALE = Duration.ofHours(1);
+    private static final Duration NEGATIVE_TTL = Duration.ofMinutes(1);
+
+    @Mock
+    private ClubServiceClient delegate;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private CachingClubServiceClient cachingClient;
+    private ClubResponse club;
+
+    @BeforeEach
+    void setUp() {
+        // Refreshes run on the calling thread, so each test sees their outcome right away
+        cachingClient = new CachingClubServiceClient(delegate, 100, TTL, MAX_STALE, NEGATIVE_TTL,
+                new SimpleMeterRegistry(), nanos::get, Runnable::run);
+        club = new ClubResponse(1L, "Center Court", "1 Main St");
+    }
+
+    @Test
+    @DisplayName("Should answer repeated lookups from the cache")
+    void shouldCallDelegateOnce_WhenClubLookedUpTwice() {
+        // Arrange
+        when(delegate.getClubById(1L)).thenReturn(ResponseEntity.ok(club));
+
+        // Act
+        cachingClient.getClubById(1L);
+        ResponseEntity<ClubResponse> response = cachingClient.getClubById(1L);
+
+        // Assert
+        assertThat(response.getBody()).isEqualTo(club);
+        verify(delegate, times(1)).getClubById(1L);
+    }
+
+    @Test
+    @DisplayName("Should reload a club once it is older than the TTL")
+    void shouldRefreshClub_WhenOlderThanTtl() {
+        // Arrange
+        ClubResponse renamed = new ClubResponse(1L, "Centre Court", "1 Main St");
+        when(delegate.getClubById(1L)).thenReturn(ResponseEntity.ok(club), ResponseEntity.ok(renamed));
+        cachingClient.getClubById(1L);
+        advance(TTL.plusSeconds(1));
+
+        // Act
+        cachingClient.getClubById(1L);
+        ResponseEntity<ClubResponse> response = cachingClient.getClubById(1L);
+
+        // Assert
+        assertThat(response.getBody()).isEqualTo(renamed);
+        verify(delegate, times(2)).getClubById(1L);
+    }
+
+    @Test
+    @DisplayName("Should serve the stale club while the club service answers with its fallback")
+    void shouldServeStaleClub_WhenRefreshFails() {
+        // Arrange
+        when(delegate.getClubById(1L)).thenReturn(ResponseEntity.ok(club),
+                ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+        cachingClient.getClubById(1L);
+        advance(TTL.plusSeconds(1));
+
+        // Act
+        ResponseEntity<ClubResponse> response = cachingClient.getClubById(1L);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(club);
+        verify(delegate, times(2)).getClubById(1L);
+    }
+
+    @Test
+    @DisplayName("Should return the fallback response once the club is older than the maximum staleness")
+    void shouldReturnFallbackResponse_WhenOlderThanMaxStale() {
+        // Arrange
+        when(delegate.getClubById(1L)).thenReturn(ResponseEntity.ok(club),
+                ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+        cachingClient.getClubById(1L);
+        advance(MAX_STALE.plusSeconds(1));
+
+        // Act
+        ResponseEntity<ClubResponse> response = cachingClient.getClubById(1L);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @Test
+    @DisplayName("Should remember a 404 only for the negative TTL")
+    void shouldCacheNotFound_ForNegativeTtl() {
+        // Arrange
+        when(delegate.getClubById(2L)).thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Club not found"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> cachingClient.getClubById(2L)).hasMessageContaining("Club not found");
+        assertThatThrownBy(() -> cachingClient.getClubById(2L)).hasMessageContaining("Club not found");
+        verify(delegate, times(1)).getClubById(2L);
+
+        advance(NEGATIVE_TTL.plusSeconds(1));
+        assertThatThrownBy(() -> cachingClient.getClubById(2L))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(e -> assertThat(((ResponseStatusException) e).getStatusCode())
+                        .isEqualTo(HttpStatus.NOT_FOUND));
+        verify(delegate, times(2)).getClubById(2L);
+    }
+
+    @Test
+    @DisplayName("Should warm the cache with every club of a full club list")
+    void shouldCacheClubs_WhenAllClubsLoaded() {
+        // Arrange
+        when(delegate.getAllClubs()).thenReturn(ResponseEntity.ok(List.of(club)));
+
+        // Act
+        cachingClient.getAllClubs();
+        ResponseEntity<ClubResponse> response = cachingClient.getClubById(1L);
+
+        // Assert
+        assertThat(response.getBody()).isEqualTo(club);
+        verify(delegate, never()).getClubById(1L);
+    }
+
+    @Test
+    @DisplayName("Should refresh on the cache's own pool rather than the common pool")
+    void shouldRefreshOnDedicatedPool_WhenOlderThanTtl() throws InterruptedException {
+        // Arrange
+        BlockingQueue<String> loadingThreads = new LinkedBlockingQueue<>();
+        when(delegate.getClubById(1L)).thenAnswer(invocation -> {
+            loadingThreads.add(Thread.currentThread().getName());
+            return ResponseEntity.ok(club);
+        });
+        CachingClubServiceClient pooledClient = new CachingClubServiceClient(delegate, 100, Duration.ofMillis(1),
+                MAX_STALE, NEGATIVE_TTL, 1, new SimpleMeterRegistry());
+        pooledClient.getClubById(1L);
+        String initialLoadThread = loadingThreads.take();
+        Thread.sleep(10);
+
+        // Act
+        pooledClient.getClubById(1L);
+
+        // Assert
+        String refreshThread = loadingThreads.poll(1, TimeUnit.SECONDS);
+        assertThat(initialLoadThread).isEqualTo(Thread.currentThread().getName());
+        assertThat(refreshThread).startsWith("club-cache-refresh-");
+        pooledClient.shutdown();
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,70 @@
+package com.tennistournament.client;
+
+import com.tennistournament.client.ClubNameResolver.Mode;
+import com.tennistournament.client.dto.ClubResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClubNameResolver Tests")
+class ClubNameResolverTest {
+
+    private static final Duration DEADLINE = Duration.ofMillis(100);
+
+    @Mock
+    private ClubServiceClient clubServiceClient;
+
+    @Mock
+    private AsyncClubServiceClient asyncClubServiceClient;
+
+    @Mock
+    private ClubRegistry clubRegistry;
+
+    @Test
+    @DisplayName("Should resolve a single missing club on the asynchronous client")
+    void shouldResolveSingleClub_WhenMissingFromSnapshot() {
+        // Arrange
+        ClubNameResolver resolver = new ClubNameResolver(clubServiceClient, asyncClubServiceClient, clubRegistry,
+                Mode.BULK, 4, DEADLINE);
+        when(asyncClubServiceClient.getClubById(1L))
+                .thenReturn(CompletableFuture.completedFuture(new ClubResponse(1L, "Center Court", "1 Main St")));
+
+        // Act
+        String name = resolver.resolveName(1L);
+
+        // Assert
+        assertThat(name).isEqualTo("Center Court");
+        verifyNoInteractions(clubServiceClient);
+    }
+
+    @Test
+    @DisplayName("Should leave a single club unresolved once the deadline passes")
+    @Timeout(5)
+    void shouldLeaveNameUnresolved_WhenSingleLookupExceedsDeadline() {
+        // Arrange
+        ClubNameResolver resolver = new ClubNameResolver(clubServiceClient, asyncClubServiceClient, clubRegistry,
+                Mode.BULK, 4, DEADLINE);
+        CompletableFuture<ClubResponse> neverCompleted = new CompletableFuture<>();
+        when(asyncClubServiceClient.getClubById(1L)).thenReturn(neverCompleted);
+
+        // Act
+        Map<Long, String> names = resolver.resolveNames(List.of(1L, 1L));
+
+        // Assert
+        assertThat(names).isEmpty();
+        assertThat(neverCompleted).isCancelled();
+    }
+}
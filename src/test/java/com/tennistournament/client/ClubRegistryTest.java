@@ -0,0 +1,113 @@
+package com.tennistournament.client;
+
+import com.tennistournament.client.dto.ClubResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClubRegistry Tests")
+class ClubRegistryTest {
+
+    private static final String ETAG = "\"clubs-v1\"";
+
+    @Mock
+    private ClubServiceClient clubServiceClient;
+
+    private MeterRegistry meterRegistry;
+    private ClubRegistry clubRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clubRegistry = new ClubRegistry(clubServiceClient, meterRegistry, true, Duration.ofMinutes(1),
+                Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Should serve clubs from the snapshot once loaded")
+    void shouldReturnClub_WhenSnapshotLoaded() {
+        // Arrange
+        when(clubServiceClient.getAllClubs((String) null)).thenReturn(clubs());
+
+        // Act
+        clubRegistry.refresh();
+
+        // Assert
+        assertThat(clubRegistry.getClub(1L).getName()).isEqualTo("Center Court");
+        assertThat(clubRegistry.getClub(3L)).isNull();
+        assertThat(meterRegistry.get("club.registry.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep the snapshot and send its ETag when the club list is unchanged")
+    void shouldKeepSnapshot_WhenNotModified() {
+        // Arrange
+        when(clubServiceClient.getAllClubs((String) null)).thenReturn(clubs());
+        clubRegistry.refresh();
+        when(clubServiceClient.getAllClubs(ETAG))
+                .thenThrow(new ResponseStatusException(HttpStatus.NOT_MODIFIED, "Not modified"));
+
+        // Act
+        clubRegistry.refresh();
+
+        // Assert
+        verify(clubServiceClient).getAllClubs(ETAG);
+        assertThat(clubRegistry.getClub(2L).getName()).isEqualTo("Clay Court");
+        assertThat(meterRegistry.counter("club.registry.refreshes", "result", "not_modified").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep the snapshot when the club service is unavailable")
+    void shouldKeepSnapshot_WhenRefreshFails() {
+        // Arrange
+        when(clubServiceClient.getAllClubs((String) null)).thenReturn(clubs());
+        clubRegistry.refresh();
+        when(clubServiceClient.getAllClubs(ETAG))
+                .thenReturn(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+
+        // Act
+        clubRegistry.refresh();
+
+        // Assert
+        assertThat(clubRegistry.getClub(1L).getName()).isEqualTo("Center Court");
+        assertThat(meterRegistry.counter("club.registry.refreshes", "result", "failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not serve clubs from a snapshot older than the maximum staleness")
+    void shouldReturnNull_WhenSnapshotTooStale() {
+        // Arrange
+        ClubRegistry staleRegistry = new ClubRegistry(clubServiceClient, meterRegistry, true, Duration.ofMinutes(1),
+                Duration.ZERO);
+        when(clubServiceClient.getAllClubs((String) null)).thenReturn(clubs());
+
+        // Act
+        staleRegistry.refresh();
+
+        // Assert
+        assertThat(staleRegistry.getClub(1L)).isNull();
+    }
+
+    private ResponseEntity<List<ClubResponse>> clubs() {
+        return ResponseEntity.ok()
+                .eTag(ETAG)
+                .body(List.of(new ClubResponse(1L, "Center Court", "1 Main St"),
+                        new ClubResponse(2L, "Clay Court", "2 Main St")));
+    }
+}
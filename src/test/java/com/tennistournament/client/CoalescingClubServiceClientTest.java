@@ -0,0 +1,111 @@
+package com.tennistournament.client;
+
+import com.tennistournament.client.dto.ClubResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CoalescingClubServiceClient Tests")
+class CoalescingClubServiceClientTest {
+
+    private static final int CALLERS = 8;
+
+    @Mock
+    private ClubServiceClient delegate;
+
+    private MeterRegistry meterRegistry;
+    private CoalescingClubServiceClient coalescingClient;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescingClient = new CoalescingClubServiceClient(delegate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should share one request between concurrent lookups of the same club")
+    @Timeout(10)
+    void shouldCallDelegateOnce_WhenLookupsOverlap() throws Exception {
+        // Arrange
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        CountDownLatch releaseResponse = new CountDownLatch(1);
+        when(delegate.getClubById(1L)).thenAnswer(invocation -> {
+            requestStarted.countDown();
+            releaseResponse.await(5, TimeUnit.SECONDS);
+            return ResponseEntity.ok(new ClubResponse(1L, "Center Court", "1 Main St"));
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+        // Act
+        List<Future<ResponseEntity<ClubResponse>>> results = new ArrayList<>();
+        results.add(executor.submit(() -> coalescingClient.getClubById(1L)));
+        assertThat(requestStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i < CALLERS; i++) {
+            results.add(executor.submit(() -> coalescingClient.getClubById(1L)));
+        }
+        // Wait until every other caller joined the in-flight request
+        while (meterRegistry.counter("club.client.coalescing", "result", "coalesced").count() < CALLERS - 1) {
+            Thread.sleep(5);
+        }
+        releaseResponse.countDown();
+
+        // Assert
+        for (Future<ResponseEntity<ClubResponse>> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS).getBody().getName()).isEqualTo("Center Court");
+        }
+        executor.shutdown();
+        verify(delegate, times(1)).getClubById(1L);
+        assertThat(meterRegistry.counter("club.client.coalescing", "result", "actual").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should send a new request once the previous one completed")
+    void shouldCallDelegateAgain_WhenPreviousLookupCompleted() {
+        // Arrange
+        when(delegate.getClubById(1L)).thenReturn(ResponseEntity.ok(new ClubResponse(1L, "Center Court", "1 Main St")));
+
+        // Act
+        coalescingClient.getClubById(1L);
+        coalescingClient.getClubById(1L);
+
+        // Assert
+        verify(delegate, times(2)).getClubById(1L);
+        assertThat(meterRegistry.counter("club.client.coalescing", "result", "coalesced").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should propagate the exception of the shared request")
+    void shouldThrowException_WhenSharedLookupFails() {
+        // Arrange
+        when(delegate.getClubById(2L)).thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Club not found"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> coalescingClient.getClubById(2L))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("Club not found");
+    }
+}
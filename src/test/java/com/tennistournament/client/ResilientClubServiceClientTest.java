@@ -0,0 +1,180 @@
+package com.tennistournament.client;
+
+import com.tennistournament.client.dto.ClubResponse;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResilientClubServiceClient Tests")
+class ResilientClubServiceClientTest {
+
+    private static final int WINDOW = 4;
+
+    @Mock
+    private ClubServiceClient delegate;
+
+    private MeterRegistry meterRegistry;
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = CircuitBreaker.of("clubServiceClient", CircuitBreakerConfig.custom()
+                .slidingWindowSize(WINDOW)
+                .minimumNumberOfCalls(WINDOW)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .ignoreException(ResilientClubServiceClient::isIgnoredFailure)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should answer from the fallback without calling the club service when the circuit is open")
+    void shouldReturnFallback_WhenCircuitOpen() {
+        // Arrange
+        ResilientClubServiceClient resilientClient = resilientClient(100, 10);
+        when(delegate.getClubById(1L)).thenThrow(new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Server error"));
+        for (int i = 0; i < WINDOW; i++) {
+            assertThatThrownBy(() -> resilientClient.getClubById(1L)).isInstanceOf(ResponseStatusException.class);
+        }
+
+        // Act
+        ResponseEntity<ClubResponse> response = resilientClient.getClubById(1L);
+
+        // Assert
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        verify(delegate, times(WINDOW)).getClubById(1L);
+        assertThat(meterRegistry.counter("club.client.resilience.rejected", "reason", "circuit_open").count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.counter("club.client.circuitbreaker.transitions", "from", "CLOSED", "to", "OPEN")
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep the circuit closed when the club service answers 404")
+    void shouldKeepCircuitClosed_WhenClubNotFound() {
+        // Arrange
+        ResilientClubServiceClient resilientClient = resilientClient(100, 10);
+        when(delegate.getClubById(2L)).thenThrow(new ResponseStatusException(HttpStatus.NOT_FOUND, "Club not found"));
+
+        // Act & Assert
+        for (int i = 0; i < WINDOW * 2; i++) {
+            assertThatThrownBy(() -> resilientClient.getClubById(2L))
+                    .isInstanceOf(ResponseStatusException.class)
+                    .hasMessageContaining("Club not found");
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        verify(delegate, times(WINDOW * 2)).getClubById(2L);
+    }
+
+    @Test
+    @DisplayName("Should answer from the fallback when the rate limit is used up")
+    void shouldReturnFallback_WhenRateLimited() {
+        // Arrange
+        ResilientClubServiceClient resilientClient = resilientClient(1, 10);
+        when(delegate.getAllClubs())
+                .thenReturn(ResponseEntity.ok(List.of(new ClubResponse(1L, "Center Court", "1 Main St"))));
+
+        // Act
+        ResponseEntity<List<ClubResponse>> first = resilientClient.getAllClubs();
+        ResponseEntity<List<ClubResponse>> second = resilientClient.getAllClubs();
+
+        // Assert
+        assertThat(first.getBody()).hasSize(1);
+        assertThat(second.getBody()).isEmpty();
+        verify(delegate, times(1)).getAllClubs();
+        assertThat(meterRegistry.counter("club.client.resilience.rejected", "reason", "rate_limited").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should answer from the fallback when too many calls are in flight")
+    @Timeout(10)
+    void shouldReturnFallback_WhenBulkheadFull() throws Exception {
+        // Arrange
+        ResilientClubServiceClient resilientClient = resilientClient(100, 1);
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        CountDownLatch releaseResponse = new CountDownLatch(1);
+        when(delegate.getClubById(1L)).thenAnswer(invocation -> {
+            requestStarted.countDown();
+            releaseResponse.await(5, TimeUnit.SECONDS);
+            return ResponseEntity.ok(new ClubResponse(1L, "Center Court", "1 Main St"));
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> resilientClient.getClubById(1L));
+        assertThat(requestStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Act
+        ResponseEntity<ClubResponse> response = resilientClient.getClubById(3L);
+        releaseResponse.countDown();
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        verify(delegate, never()).getClubById(3L);
+        assertThat(meterRegistry.counter("club.client.resilience.rejected", "reason", "bulkhead_full").count())
+                .isEqualTo(1);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should fail asynchronous club checks fast with 503 while the circuit is open")
+    @Timeout(5)
+    void shouldFailAsyncLookupFast_WhenCircuitOpen() {
+        // Arrange
+        AsyncClubServiceClient asyncClient = new AsyncClubServiceClient(resilientClient(100, 10), 2);
+        circuitBreaker.transitionToOpenState();
+
+        // Act & Assert
+        assertThatThrownBy(() -> AsyncClubServiceClient.join(asyncClient.getClubById(1L)))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(e -> assertThat(((ResponseStatusException) e).getStatusCode())
+                        .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        verify(delegate, never()).getClubById(1L);
+        asyncClient.shutdown();
+    }
+
+    private ResilientClubServiceClient resilientClient(int callsPerPeriod, int maxConcurrentCalls) {
+        RateLimiter rateLimiter = RateLimiter.of("clubServiceClient", RateLimiterConfig.custom()
+                .limitForPeriod(callsPerPeriod)
+                .limitRefreshPeriod(Duration.ofMinutes(1))
+                .timeoutDuration(Duration.ZERO)
+                .build());
+        Bulkhead bulkhead = Bulkhead.of("clubServiceClient", BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        return new ResilientClubServiceClient(delegate, new ClubServiceClientFallback(), circuitBreaker,
+                rateLimiter, bulkhead, meterRegistry);
+    }
+}
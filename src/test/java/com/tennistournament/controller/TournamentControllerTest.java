@@ -0,0 +1,109 @@
+package com.tennistournament.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennistournament.dto.TournamentResponse;
+import com.tennistournament.service.BurstRegistrationService;
+import com.tennistournament.service.TournamentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TournamentController Tests")
+class TournamentControllerTest {
+
+    @Mock
+    private TournamentService tournamentService;
+
+    @Mock
+    private BurstRegistrationService burstRegistrationService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private TournamentController tournamentController;
+
+    @BeforeEach
+    void setUp() {
+        tournamentController = new TournamentController(tournamentService, burstRegistrationService, objectMapper,
+                Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("Should return the last ID as next cursor when the page is full")
+    void shouldSetNextCursor_WhenPageFull() {
+        // Arrange
+        when(tournamentService.getTournamentsPage(null, 10L, 2)).thenReturn(List.of(tournament(11L), tournament(12L)));
+
+        // Act
+        ResponseEntity<List<TournamentResponse>> response = tournamentController.getAllTournaments(null, 10L, 2);
+
+        // Assert
+        assertThat(response.getBody()).hasSize(2);
+        assertThat(response.getHeaders().getFirst("X-Next-Cursor")).isEqualTo("12");
+    }
+
+    @Test
+    @DisplayName("Should not return a next cursor on the last page")
+    void shouldOmitNextCursor_WhenLastPage() {
+        // Arrange
+        when(tournamentService.getTournamentsPage(null, 12L, 2)).thenReturn(List.of(tournament(13L)));
+
+        // Act
+        ResponseEntity<List<TournamentResponse>> response = tournamentController.getAllTournaments(null, 12L, 2);
+
+        // Assert
+        assertThat(response.getBody()).hasSize(1);
+        assertThat(response.getHeaders().containsKey("X-Next-Cursor")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line for every streamed chunk")
+    @SuppressWarnings("unchecked")
+    void shouldWriteNdjson_WhenStreamingTournaments() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<List<TournamentResponse>> chunkConsumer = invocation.getArgument(1);
+            chunkConsumer.accept(List.of(tournament(1L), tournament(2L)));
+            chunkConsumer.accept(List.of(tournament(3L)));
+            return null;
+        }).when(tournamentService).streamTournaments(eq(5L), any(Consumer.class));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = tournamentController.streamAllTournaments(5L);
+        response.getBody().writeTo(output);
+
+        // Assert
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(objectMapper.readValue(lines[2], TournamentResponse.class).getId()).isEqualTo(3L);
+    }
+
+    private static TournamentResponse tournament(Long id) {
+        TournamentResponse tournament = new TournamentResponse();
+        tournament.setId(id);
+        tournament.setName("Tournament " + id);
+        tournament.setStartDateTime(LocalDateTime.of(2030, 3, 1, 9, 0));
+        tournament.setEndDateTime(LocalDateTime.of(2030, 3, 2, 9, 0));
+        return tournament;
+    }
+}
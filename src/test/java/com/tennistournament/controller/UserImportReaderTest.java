@@ -0,0 +1,83 @@
+package com.tennistournament.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tennistournament.dto.UserImportLine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("UserImportReader Tests")
+class UserImportReaderTest {
+
+    @Test
+    @DisplayName("Should parse NDJSON lines and report malformed ones with their line number")
+    void shouldParseLines_WhenNdjson() {
+        // Arrange
+        InputStream body = body("""
+                {"username":"alice","email":"alice@example.com","skillLevel":"ADVANCED"}
+
+                {"username":"bob",
+                {"username":"carol","email":"carol@example.com"}
+                """);
+
+        // Act
+        List<UserImportLine> lines = readAll(UserImportReader.ndjson(body, new ObjectMapper()));
+
+        // Assert
+        assertThat(lines).extracting(UserImportLine::getLine).containsExactly(1, 3, 4);
+        assertThat(lines.get(0).getRequest().getSkillLevel()).isEqualTo("ADVANCED");
+        assertThat(lines.get(1).getError()).startsWith("Malformed JSON");
+        assertThat(lines.get(2).getRequest().getUsername()).isEqualTo("carol");
+    }
+
+    @Test
+    @DisplayName("Should map CSV columns by header name, including quoted fields")
+    void shouldParseLines_WhenCsv() {
+        // Arrange
+        InputStream body = body("""
+                email,username,last_name,firstName
+                alice@example.com,alice,"O""Brien, Jr",Alice
+                bob@example.com,bob,,
+                carol@example.com,carol
+                """);
+
+        // Act
+        List<UserImportLine> lines = readAll(UserImportReader.csv(body));
+
+        // Assert
+        assertThat(lines).extracting(UserImportLine::getLine).containsExactly(2, 3, 4);
+        assertThat(lines.get(0).getRequest().getUsername()).isEqualTo("alice");
+        assertThat(lines.get(0).getRequest().getLastName()).isEqualTo("O\"Brien, Jr");
+        assertThat(lines.get(0).getRequest().getSkillLevel()).isNull();
+        assertThat(lines.get(1).getRequest().getFirstName()).isNull();
+        assertThat(lines.get(2).getError()).isEqualTo("Malformed CSV: expected 4 columns but found 2");
+    }
+
+    @Test
+    @DisplayName("Should reject CSV without username and email columns")
+    void shouldThrowBadRequest_WhenCsvHeaderMissingColumns() {
+        // Act & Assert
+        assertThatThrownBy(() -> UserImportReader.csv(body("name,mail\nalice,alice@example.com\n")))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("CSV header must contain username and email columns");
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<UserImportLine> readAll(UserImportReader reader) {
+        List<UserImportLine> lines = new ArrayList<>();
+        reader.forEachRemaining(lines::add);
+        return lines;
+    }
+}
@@ -0,0 +1,79 @@
+package com.tennistournament.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RequestMetrics Tests")
+class RequestMetricsTest {
+
+    private static final String SELECT_USER = "select u.id from user_profiles u where u.id=?";
+
+    @AfterEach
+    void tearDown() {
+        RequestMetrics.end();
+    }
+
+    @Test
+    @DisplayName("Should report statements over budget when logging only")
+    void shouldReportOverBudget_WhenBudgetExceededWithoutFailing() {
+        // Arrange
+        RequestMetrics.start(2, false);
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            RequestMetrics.statementPrepared(SELECT_USER);
+        }
+        RequestMetrics metrics = RequestMetrics.end();
+
+        // Assert
+        assertThat(metrics.getStatements()).isEqualTo(3);
+        assertThat(metrics.isOverBudget()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should fail the statement exceeding the budget when failing is enabled")
+    void shouldThrowException_WhenBudgetExceededAndFailing() {
+        // Arrange
+        RequestMetrics.start(2, true);
+        RequestMetrics.statementPrepared(SELECT_USER);
+        RequestMetrics.statementPrepared(SELECT_USER);
+
+        // Act & Assert
+        assertThatThrownBy(() -> RequestMetrics.statementPrepared(SELECT_USER))
+                .isInstanceOf(SqlBudgetExceededException.class)
+                .hasMessageContaining("3 statements, budget 2");
+    }
+
+    @Test
+    @DisplayName("Should report statements repeated within a request as possible N+1 queries")
+    void shouldReportRepeatedStatements_WhenThresholdReached() {
+        // Arrange
+        RequestMetrics.start(50, false);
+
+        // Act
+        RequestMetrics.statementPrepared("select t.id from tournaments t");
+        for (int i = 0; i < 10; i++) {
+            RequestMetrics.statementPrepared(SELECT_USER);
+        }
+        RequestMetrics metrics = RequestMetrics.end();
+
+        // Assert
+        assertThat(metrics.getRepeatedStatements(10)).containsOnlyKeys(SELECT_USER);
+        assertThat(metrics.getRepeatedStatements(10).get(SELECT_USER)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should ignore statements outside a request")
+    void shouldIgnoreStatements_WhenNoRequestIsActive() {
+        // Act
+        RequestMetrics.statementPrepared(SELECT_USER);
+        RequestMetrics.statementExecuted(1_000_000);
+
+        // Assert
+        assertThat(RequestMetrics.end()).isNull();
+    }
+}
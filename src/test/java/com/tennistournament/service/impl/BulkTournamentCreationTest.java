@@ -0,0 +1,189 @@
+package com.tennistournament.service.impl;
+
+import com.tennistournament.client.AsyncClubServiceClient;
+import com.tennistournament.client.ClubNameResolver;
+import com.tennistournament.client.ClubRegistry;
+import com.tennistournament.client.ClubServiceClient;
+import com.tennistournament.client.dto.ClubResponse;
+import com.tennistournament.dto.BulkTournamentResult;
+import com.tennistournament.dto.TournamentRequest;
+import com.tennistournament.repository.TournamentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulkcreationtest;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Import({TournamentServiceImpl.class, ClubNameResolver.class, SchedulingConflictIndex.class})
+@DisplayName("Bulk tournament creation tests")
+class BulkTournamentCreationTest {
+
+    private static final int BULK_SIZE = 120;
+
+    @Autowired
+    private TournamentServiceImpl tournamentService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private ClubServiceClient clubServiceClient;
+
+    @MockBean
+    private AsyncClubServiceClient asyncClubServiceClient;
+
+    @MockBean
+    private ClubRegistry clubRegistry;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("ALTER TABLE tournaments DROP CONSTRAINT IF EXISTS no_thirteen_participants");
+        tournamentRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should create valid tournaments and reject invalid ones with one club lookup")
+    void shouldReturnPerItemResults_WhenSomeItemsInvalid() {
+        // Arrange
+        when(asyncClubServiceClient.getClubById(1L))
+                .thenReturn(CompletableFuture.completedFuture(new ClubResponse(1L, "Center Court", "1 Main St")));
+        LocalDateTime start = LocalDateTime.of(2030, 3, 1, 9, 0);
+        List<TournamentRequest> requests = List.of(
+                new TournamentRequest("Spring Open", start, start.plusDays(2), 32),
+                new TournamentRequest("Backwards", start, start.minusDays(1), 16),
+                new TournamentRequest(" ", start, start.plusDays(1), 16),
+                new TournamentRequest("Summer Open", start.plusMonths(3), start.plusMonths(3).plusDays(2), 64));
+
+        // Act
+        List<BulkTournamentResult> results = tournamentService.createTournaments(1L, requests);
+
+        // Assert
+        assertThat(results).extracting(BulkTournamentResult::getIndex).containsExactly(0, 1, 2, 3);
+        assertThat(results).extracting(BulkTournamentResult::getStatus)
+                .containsExactly("CREATED", "REJECTED", "REJECTED", "CREATED");
+        assertThat(results.get(1).getError()).isEqualTo("End date and time must be after start date and time");
+        assertThat(results.get(2).getError()).isEqualTo("Tournament name is required");
+        assertThat(results.get(3).getTournament().getTennisClubName()).isEqualTo("Center Court");
+        assertThat(tournamentRepository.count()).isEqualTo(2);
+        verify(asyncClubServiceClient, times(1)).getClubById(1L);
+    }
+
+    @Test
+    @DisplayName("Should insert a bulk of tournaments in JDBC batches")
+    void shouldBatchInserts_WhenCreatingManyTournaments() {
+        // Arrange
+        when(asyncClubServiceClient.getClubById(1L))
+                .thenReturn(CompletableFuture.completedFuture(new ClubResponse(1L, "Center Court", "1 Main St")));
+        LocalDateTime start = LocalDateTime.of(2030, 3, 1, 9, 0);
+        List<TournamentRequest> requests = new ArrayList<>();
+        for (int i = 0; i < BULK_SIZE; i++) {
+            requests.add(new TournamentRequest("Weekly " + i, start.plusWeeks(i), start.plusWeeks(i).plusHours(6), 16));
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        List<BulkTournamentResult> results = tournamentService.createTournaments(1L, requests);
+
+        // Assert
+        assertThat(results).hasSize(BULK_SIZE).allSatisfy(result -> assertThat(result.getStatus()).isEqualTo("CREATED"));
+        assertThat(tournamentRepository.count()).isEqualTo(BULK_SIZE);
+        // A few sequence calls and one insert per batch instead of one insert per tournament
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should create nothing when the club does not exist")
+    void shouldThrowNotFound_WhenClubDoesNotExist() {
+        // Arrange
+        when(asyncClubServiceClient.getClubById(99L)).thenReturn(CompletableFuture.failedFuture(
+                new ResponseStatusException(HttpStatus.NOT_FOUND, "Club not found")));
+        LocalDateTime start = LocalDateTime.of(2030, 3, 1, 9, 0);
+        List<TournamentRequest> requests = List.of(new TournamentRequest("Spring Open", start, start.plusDays(2), 32));
+
+        // Act & Assert
+        assertThatThrownBy(() -> tournamentService.createTournaments(99L, requests))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("Club not found");
+        assertThat(tournamentRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should answer 404 for an unknown club even when no item is valid")
+    void shouldThrowNotFound_WhenClubDoesNotExistAndAllItemsInvalid() {
+        // Arrange
+        when(asyncClubServiceClient.getClubById(99L)).thenReturn(CompletableFuture.failedFuture(
+                new ResponseStatusException(HttpStatus.NOT_FOUND, "Club not found")));
+        LocalDateTime start = LocalDateTime.of(2030, 3, 1, 9, 0);
+        List<TournamentRequest> requests = List.of(
+                new TournamentRequest("Backwards", start, start.minusDays(1), 16),
+                new TournamentRequest(null, start, start.plusDays(1), 16));
+
+        // Act & Assert
+        assertThatThrownBy(() -> tournamentService.createTournaments(99L, requests))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(e -> assertThat(((ResponseStatusException) e).getStatusCode())
+                        .isEqualTo(HttpStatus.NOT_FOUND));
+    }
+
+    @Test
+    @DisplayName("Should still create the other items when the database rejects one of them")
+    void shouldRejectOnlyFailingItem_WhenDatabaseRejectsOneItem() {
+        // Arrange
+        when(asyncClubServiceClient.getClubById(1L))
+                .thenReturn(CompletableFuture.completedFuture(new ClubResponse(1L, "Center Court", "1 Main St")));
+        jdbcTemplate.execute("ALTER TABLE tournaments ADD CONSTRAINT no_thirteen_participants "
+                + "CHECK (max_participants <> 13)");
+        LocalDateTime start = LocalDateTime.of(2030, 3, 1, 9, 0);
+        List<TournamentRequest> requests = List.of(
+                new TournamentRequest("Spring Open", start, start.plusDays(2), 32),
+                new TournamentRequest("Unlucky Cup", start, start.plusDays(2), 13),
+                new TournamentRequest("Summer Open", start.plusMonths(3), start.plusMonths(3).plusDays(2), 64));
+
+        // Act
+        List<BulkTournamentResult> results = tournamentService.createTournaments(1L, requests);
+
+        // Assert
+        assertThat(results).extracting(BulkTournamentResult::getStatus)
+                .containsExactly("CREATED", "REJECTED", "CREATED");
+        assertThat(results.get(1).getError()).isEqualTo("Tournament could not be created");
+        assertThat(tournamentRepository.count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,204 @@
+package com.tennistournament.service.impl;
+
+import com.tennistournament.client.AsyncClubServiceClient;
+import com.tennistournament.client.ClubNameResolver;
+import com.tennistournament.client.ClubRegistry;
+import com.tennistournament.client.ClubServiceClient;
+import com.tennistournament.model.Tournament;
+import com.tennistournament.model.UserProfile;
+import com.tennistournament.repository.TournamentRepository;
+import com.tennistournament.repository.UserProfileRepository;
+import com.tennistournament.service.BurstRegistrationService.Ticket;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:burstregistrationtest;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Import({BurstRegistrationServiceImpl.class, TournamentServiceImpl.class, ClubNameResolver.class,
+        SchedulingConflictIndex.class})
+@DisplayName("Burst registration queue tests")
+class BurstRegistrationServiceImplTest {
+
+    private static final int USER_COUNT = 40;
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    @Autowired
+    private BurstRegistrationServiceImpl burstRegistrationService;
+
+    @Autowired
+    private TournamentServiceImpl tournamentService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private UserProfileRepository userProfileRepository;
+
+    @MockBean
+    private ClubServiceClient clubServiceClient;
+
+    @MockBean
+    private AsyncClubServiceClient asyncClubServiceClient;
+
+    @MockBean
+    private ClubRegistry clubRegistry;
+
+    private List<Long> userIds;
+    private Long tournamentId;
+
+    @BeforeEach
+    void setUp() {
+        List<UserProfile> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(new UserProfile("burst" + i, "burst" + i + "@example.com", null, null, null));
+        }
+        userIds = userProfileRepository.saveAll(users).stream()
+                .map(UserProfile::getId)
+                .toList();
+        LocalDateTime start = LocalDateTime.of(2030, 6, 1, 9, 0);
+        tournamentId = tournamentRepository.save(
+                new Tournament("Opening Day", start, start.plusDays(2), USER_COUNT, 1L)).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        burstRegistrationService.disable(tournamentId);
+        tournamentRepository.deleteAll();
+        userProfileRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should persist queued registrations and report the queue position, not a running count")
+    void shouldPersistRegistrations_WhenBurstModeEnabled() {
+        // Arrange
+        burstRegistrationService.enable(tournamentId);
+
+        // Act
+        Ticket first = burstRegistrationService.trySubmit(tournamentId, userIds.get(0)).orElseThrow();
+        boolean firstPersisted = first.awaitCompletion(WAIT);
+        Ticket second = burstRegistrationService.trySubmit(tournamentId, userIds.get(1)).orElseThrow();
+        boolean secondPersisted = second.awaitCompletion(WAIT);
+
+        // Assert
+        assertThat(firstPersisted).isTrue();
+        assertThat(secondPersisted).isTrue();
+        assertThat(second.getPosition()).isEqualTo(1);
+        assertThat(tournamentRepository.findParticipantLinks(List.of(tournamentId))).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should queue a user again after they unregistered")
+    void shouldRegisterAgain_WhenUserUnregistered() {
+        // Arrange
+        Long userId = userIds.get(0);
+        burstRegistrationService.enable(tournamentId);
+        assertThat(burstRegistrationService.trySubmit(tournamentId, userId).orElseThrow().awaitCompletion(WAIT)).isTrue();
+        tournamentService.unregisterUserFromTournament(tournamentId, userId);
+        burstRegistrationService.seatReleased(tournamentId);
+
+        // Act
+        Ticket ticket = burstRegistrationService.trySubmit(tournamentId, userId).orElseThrow();
+
+        // Assert
+        assertThat(ticket.awaitCompletion(WAIT)).isTrue();
+        assertThat(tournamentRepository.findParticipantLinks(List.of(tournamentId))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a registration of a user who is already registered")
+    void shouldRejectRegistration_WhenUserAlreadyRegistered() {
+        // Arrange
+        Long userId = userIds.get(0);
+        burstRegistrationService.enable(tournamentId);
+        assertThat(burstRegistrationService.trySubmit(tournamentId, userId).orElseThrow().awaitCompletion(WAIT)).isTrue();
+
+        // Act
+        Ticket duplicate = burstRegistrationService.trySubmit(tournamentId, userId).orElseThrow();
+
+        // Assert
+        assertThatThrownBy(() -> duplicate.awaitCompletion(WAIT))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(e -> assertThat(((ResponseStatusException) e).getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+    }
+
+    @Test
+    @DisplayName("Should complete every admitted registration when burst mode is disabled during a burst")
+    @Timeout(30)
+    void shouldCompleteAllTickets_WhenDisabledConcurrently() throws InterruptedException {
+        // Arrange
+        burstRegistrationService.enable(tournamentId);
+        ConcurrentLinkedQueue<Ticket> tickets = new ConcurrentLinkedQueue<>();
+        CountDownLatch ready = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        for (Long userId : userIds) {
+            executor.submit(() -> {
+                ready.await();
+                Optional<Ticket> ticket = burstRegistrationService.trySubmit(tournamentId, userId);
+                ticket.ifPresent(tickets::add);
+                return null;
+            });
+        }
+        ready.countDown();
+        burstRegistrationService.disable(tournamentId);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // Assert
+        for (Ticket ticket : tickets) {
+            assertThat(ticket.awaitCompletion(WAIT)).isTrue();
+        }
+        assertThat(tournamentRepository.findParticipantLinks(List.of(tournamentId))).hasSize(tickets.size());
+    }
+
+    @Test
+    @DisplayName("Should persist queued registrations before shutting down")
+    @Timeout(30)
+    void shouldPersistQueuedRegistrations_WhenShutDown() {
+        // Arrange
+        burstRegistrationService.enable(tournamentId);
+        List<Ticket> tickets = new ArrayList<>();
+        for (Long userId : userIds) {
+            tickets.add(burstRegistrationService.trySubmit(tournamentId, userId).orElseThrow());
+        }
+
+        // Act
+        burstRegistrationService.shutdown();
+
+        // Assert
+        assertThat(burstRegistrationService.isEnabled(tournamentId)).isFalse();
+        assertThat(tickets).allSatisfy(ticket -> assertThat(ticket.awaitCompletion(Duration.ZERO)).isTrue());
+        assertThat(tournamentRepository.findParticipantLinks(List.of(tournamentId))).hasSize(USER_COUNT);
+    }
+}
@@ -0,0 +1,162 @@
+package com.tennistournament.service.impl;
+
+import com.tennistournament.client.AsyncClubServiceClient;
+import com.tennistournament.client.ClubNameResolver;
+import com.tennistournament.client.ClubRegistry;
+import com.tennistournament.client.ClubServiceClient;
+import com.tennistournament.model.Tournament;
+import com.tennistournament.model.TrainingSession;
+import com.tennistournament.model.UserProfile;
+import com.tennistournament.repository.TournamentRepository;
+import com.tennistournament.repository.TrainingSessionRepository;
+import com.tennistournament.repository.UserProfileRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:capacitystresstest;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Import({TournamentServiceImpl.class, TrainingSessionServiceImpl.class, ClubNameResolver.class,
+        SchedulingConflictIndex.class})
+@DisplayName("Registration capacity stress tests")
+class RegistrationCapacityStressTest {
+
+    private static final int CAPACITY = 10;
+    private static final int USER_COUNT = 200;
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private TournamentServiceImpl tournamentService;
+
+    @Autowired
+    private TrainingSessionServiceImpl trainingSessionService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private TrainingSessionRepository trainingSessionRepository;
+
+    @Autowired
+    private UserProfileRepository userProfileRepository;
+
+    @MockBean
+    private ClubServiceClient clubServiceClient;
+
+    @MockBean
+    private AsyncClubServiceClient asyncClubServiceClient;
+
+    @MockBean
+    private ClubRegistry clubRegistry;
+
+    private List<Long> userIds;
+
+    @BeforeEach
+    void setUp() {
+        List<UserProfile> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(new UserProfile("player" + i, "player" + i + "@example.com", null, null, null));
+        }
+        userIds = userProfileRepository.saveAll(users).stream()
+                .map(UserProfile::getId)
+                .toList();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tournamentRepository.deleteAll();
+        trainingSessionRepository.deleteAll();
+        userProfileRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should never exceed max participants under concurrent registrations")
+    void shouldNeverExceedMaxParticipants_WhenRegisteringConcurrently() throws InterruptedException {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2030, 6, 1, 9, 0);
+        Long tournamentId = tournamentRepository.save(
+                new Tournament("Open Draw", start, start.plusDays(2), CAPACITY, 1L)).getId();
+
+        // Act
+        int registered = registerConcurrently(tournamentId, tournamentService::registerUserForTournament);
+
+        // Assert
+        assertThat(registered).isEqualTo(CAPACITY);
+        assertThat(tournamentRepository.findParticipantLinks(List.of(tournamentId))).hasSize(CAPACITY);
+        assertThat(tournamentRepository.findById(tournamentId).orElseThrow().getParticipantCount())
+                .isEqualTo(CAPACITY);
+    }
+
+    @Test
+    @DisplayName("Should never exceed max attendees under concurrent registrations")
+    void shouldNeverExceedMaxAttendees_WhenRegisteringConcurrently() throws InterruptedException {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2030, 6, 1, 9, 0);
+        Long sessionId = trainingSessionRepository.save(
+                new TrainingSession("Clinic", null, start, start.plusHours(2), CAPACITY, "Coach", 1L)).getId();
+
+        // Act
+        int registered = registerConcurrently(sessionId, trainingSessionService::registerUserForTrainingSession);
+
+        // Assert
+        assertThat(registered).isEqualTo(CAPACITY);
+        assertThat(trainingSessionRepository.findAttendeeLinks(List.of(sessionId))).hasSize(CAPACITY);
+        assertThat(trainingSessionRepository.findById(sessionId).orElseThrow().getAttendeeCount())
+                .isEqualTo(CAPACITY);
+    }
+
+    private int registerConcurrently(Long eventId, BiConsumer<Long, Long> register) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startGate = new CountDownLatch(1);
+        AtomicInteger registered = new AtomicInteger();
+        AtomicInteger unexpectedFailures = new AtomicInteger();
+
+        for (Long userId : userIds) {
+            executor.submit(() -> {
+                try {
+                    startGate.await();
+                    register.accept(eventId, userId);
+                    registered.incrementAndGet();
+                } catch (ResponseStatusException e) {
+                    if (e.getStatusCode() != HttpStatus.CONFLICT) {
+                        unexpectedFailures.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    unexpectedFailures.incrementAndGet();
+                }
+            });
+        }
+
+        startGate.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+        assertThat(unexpectedFailures.get()).isZero();
+        return registered.get();
+    }
+}
@@ -0,0 +1,171 @@
+package com.tennistournament.service.impl;
+
+import com.tennistournament.client.AsyncClubServiceClient;
+import com.tennistournament.client.ClubNameResolver;
+import com.tennistournament.client.ClubRegistry;
+import com.tennistournament.client.ClubServiceClient;
+import com.tennistournament.model.Tournament;
+import com.tennistournament.model.TrainingSession;
+import com.tennistournament.model.UserProfile;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Import({TournamentServiceImpl.class, TrainingSessionServiceImpl.class, UserProfileServiceImpl.class,
+        UserIdentityFilter.class, UserSearchIndex.class, ClubNameResolver.class, SchedulingConflictIndex.class})
+@DisplayName("Registration read path statement count tests")
+class RegistrationQueryCountTest {
+
+    private static final int USER_COUNT = 20;
+    private static final int EVENT_COUNT = 10;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TournamentServiceImpl tournamentService;
+
+    @Autowired
+    private TrainingSessionServiceImpl trainingSessionService;
+
+    @Autowired
+    private UserProfileServiceImpl userProfileService;
+
+    @MockBean
+    private ClubServiceClient clubServiceClient;
+
+    @MockBean
+    private AsyncClubServiceClient asyncClubServiceClient;
+
+    @MockBean
+    private ClubRegistry clubRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        when(clubServiceClient.getAllClubs()).thenReturn(ResponseEntity.ok(new ArrayList<>()));
+
+        List<UserProfile> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(entityManager.persist(new UserProfile("user" + i, "user" + i + "@example.com",
+                    "First" + i, "Last" + i, "INTERMEDIATE")));
+        }
+
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 10, 0);
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            Tournament tournament = new Tournament("Tournament " + i, start.plusDays(i), start.plusDays(i).plusHours(8),
+                    USER_COUNT, (long) (i % 3 + 1));
+            TrainingSession session = new TrainingSession("Session " + i, null, start.plusDays(i),
+                    start.plusDays(i).plusHours(1), USER_COUNT, "Coach", (long) (i % 3 + 1));
+            tournament.getParticipants().addAll(users);
+            session.getAttendees().addAll(users);
+            entityManager.persist(tournament);
+            entityManager.persist(session);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should list tournaments with participants in a fixed number of statements")
+    void shouldListTournaments_WithFixedStatementCount() {
+        assertThat(tournamentService.getAllTournaments(null))
+                .hasSize(EVENT_COUNT)
+                .allSatisfy(tournament -> assertThat(tournament.getParticipantIds()).hasSize(USER_COUNT));
+
+        // Tournament summaries + participant links, no managed entities
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should list training sessions with attendees in a fixed number of statements")
+    void shouldListTrainingSessions_WithFixedStatementCount() {
+        assertThat(trainingSessionService.getAllTrainingSessions(null))
+                .hasSize(EVENT_COUNT)
+                .allSatisfy(session -> assertThat(session.getAttendeeIds()).hasSize(USER_COUNT));
+
+        // Training session summaries + attendee links, no managed entities
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should list users with registrations in a fixed number of statements")
+    void shouldListUsers_WithFixedStatementCount() {
+        assertThat(userProfileService.getAllUsers())
+                .hasSize(USER_COUNT)
+                .allSatisfy(user -> {
+                    assertThat(user.getRegisteredTournamentIds()).hasSize(EVENT_COUNT);
+                    assertThat(user.getRegisteredTrainingSessionIds()).hasSize(EVENT_COUNT);
+                });
+
+        // Users + tournament links + training session links
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(USER_COUNT);
+    }
+
+    @Test
+    @DisplayName("Should select only the requested user columns without loading registrations")
+    void shouldListUserNames_WithOneStatement() {
+        List<Map<String, Object>> users = userProfileService.getUsers(null, null, List.of("username"));
+
+        assertThat(users).hasSize(USER_COUNT)
+                .allSatisfy(user -> assertThat(user).containsOnlyKeys("id", "username"));
+        assertThat(users.get(0)).containsEntry("username", "user0");
+
+        // One projection query, no managed entities and no registration links
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should page users by ID and load registrations only for the page")
+    void shouldPageUsers_WhenAfterAndLimitGiven() {
+        List<Map<String, Object>> firstPage = userProfileService.getUsers(null, 5,
+                List.of("username", "registeredTournamentIds"));
+        List<Map<String, Object>> secondPage = userProfileService.getUsers((Long) firstPage.get(4).get("id"), 5,
+                List.of("username", "registeredTournamentIds"));
+
+        assertThat(firstPage).extracting(user -> user.get("username"))
+                .containsExactly("user0", "user1", "user2", "user3", "user4");
+        assertThat(secondPage).extracting(user -> user.get("username"))
+                .containsExactly("user5", "user6", "user7", "user8", "user9");
+        assertThat(secondPage).allSatisfy(user -> {
+            assertThat(user).containsOnlyKeys("id", "username", "registeredTournamentIds");
+            assertThat((List<?>) user.get("registeredTournamentIds")).hasSize(EVENT_COUNT);
+        });
+
+        // Projection query + tournament links per page
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
@@ -0,0 +1,200 @@
+package com.tennistournament.service.impl;
+
+import com.tennistournament.exception.SchedulingConflictException;
+import com.tennistournament.repository.ScheduledRegistration;
+import com.tennistournament.repository.TournamentRepository;
+import com.tennistournament.repository.TrainingSessionRepository;
+import com.tennistournament.service.impl.SchedulingConflictIndex.EventType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SchedulingConflictIndex Tests")
+class SchedulingConflictIndexTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDateTime NINE = LocalDateTime.of(2030, 6, 1, 9, 0);
+
+    @Mock
+    private TournamentRepository tournamentRepository;
+
+    @Mock
+    private TrainingSessionRepository trainingSessionRepository;
+
+    @InjectMocks
+    private SchedulingConflictIndex schedulingConflictIndex;
+
+    @BeforeEach
+    void setUp() {
+        schedulingConflictIndex.reserve(USER_ID, EventType.TOURNAMENT, 10L, NINE, NINE.plusHours(3));
+    }
+
+    @Test
+    @DisplayName("Should reject overlapping registration with conflicting event")
+    void shouldRejectRegistration_WhenWindowsOverlap() {
+        // Act & Assert
+        assertThatThrownBy(() -> schedulingConflictIndex.reserve(USER_ID, EventType.TRAINING_SESSION, 20L,
+                NINE.plusHours(2), NINE.plusHours(4)))
+                .isInstanceOf(SchedulingConflictException.class)
+                .satisfies(e -> {
+                    SchedulingConflictException conflict = (SchedulingConflictException) e;
+                    assertThat(conflict.getConflictingEventId()).isEqualTo(10L);
+                    assertThat(conflict.getConflictingEventType())
+                            .isEqualTo("TOURNAMENT");
+                });
+    }
+
+    @Test
+    @DisplayName("Should reject registration enclosing an existing event")
+    void shouldRejectRegistration_WhenWindowEnclosesExistingEvent() {
+        // Act & Assert
+        assertThatThrownBy(() -> schedulingConflictIndex.reserve(USER_ID, EventType.TOURNAMENT, 11L,
+                NINE.minusHours(1), NINE.plusHours(5)))
+                .isInstanceOf(SchedulingConflictException.class);
+    }
+
+    @Test
+    @DisplayName("Should accept adjacent and other users' registrations")
+    void shouldAcceptRegistration_WhenWindowsDoNotOverlap() {
+        // Act & Assert
+        assertThatCode(() -> {
+            schedulingConflictIndex.reserve(USER_ID, EventType.TRAINING_SESSION, 20L,
+                    NINE.plusHours(3), NINE.plusHours(4));
+            schedulingConflictIndex.reserve(USER_ID, EventType.TRAINING_SESSION, 21L,
+                    NINE.minusHours(1), NINE);
+            schedulingConflictIndex.reserve(2L, EventType.TOURNAMENT, 12L, NINE, NINE.plusHours(3));
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should accept registration after the conflicting event was released")
+    void shouldAcceptRegistration_WhenConflictingEventReleased() {
+        // Arrange
+        schedulingConflictIndex.release(USER_ID, EventType.TOURNAMENT, 10L, NINE);
+
+        // Act & Assert
+        assertThatCode(() -> schedulingConflictIndex.reserve(USER_ID, EventType.TOURNAMENT, 11L,
+                NINE.plusHours(1), NINE.plusHours(2)))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should detect conflicts with registrations loaded from the database")
+    void shouldRejectRegistration_WhenConflictLoadedOnRebuild() {
+        // Arrange
+        ScheduledRegistration registration = mock(ScheduledRegistration.class);
+        when(registration.getUserId()).thenReturn(USER_ID);
+        when(registration.getEventId()).thenReturn(30L);
+        when(registration.getStartDateTime()).thenReturn(NINE.plusDays(1));
+        when(registration.getEndDateTime()).thenReturn(NINE.plusDays(1).plusHours(1));
+        when(tournamentRepository.findAllScheduledRegistrations()).thenReturn(List.of());
+        when(trainingSessionRepository.findAllScheduledRegistrations()).thenReturn(List.of(registration));
+
+        // Act
+        schedulingConflictIndex.rebuild();
+
+        // Assert
+        assertThatThrownBy(() -> schedulingConflictIndex.reserve(USER_ID, EventType.TOURNAMENT, 11L,
+                NINE.plusDays(1), NINE.plusDays(2)))
+                .isInstanceOf(SchedulingConflictException.class);
+        assertThatCode(() -> schedulingConflictIndex.reserve(USER_ID, EventType.TOURNAMENT, 11L,
+                NINE, NINE.plusHours(3)))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should reject registration overlapping any of the loaded registrations that already overlap")
+    void shouldRejectRegistration_WhenLoadedRegistrationsOverlap() {
+        // Arrange
+        ScheduledRegistration longEvent = registration(40L, NINE.plusDays(1), NINE.plusDays(1).plusHours(10));
+        ScheduledRegistration shortEvent = registration(41L, NINE.plusDays(1).plusHours(1),
+                NINE.plusDays(1).plusHours(2));
+        when(tournamentRepository.findAllScheduledRegistrations()).thenReturn(List.of(longEvent, shortEvent));
+        when(trainingSessionRepository.findAllScheduledRegistrations()).thenReturn(List.of());
+        schedulingConflictIndex.rebuild();
+
+        // Act & Assert
+        assertThatThrownBy(() -> schedulingConflictIndex.reserve(USER_ID, EventType.TRAINING_SESSION, 20L,
+                NINE.plusDays(1).plusHours(4), NINE.plusDays(1).plusHours(5)))
+                .isInstanceOf(SchedulingConflictException.class)
+                .satisfies(e -> assertThat(((SchedulingConflictException) e).getConflictingEventId())
+                        .isEqualTo(40L));
+    }
+
+    @Test
+    @DisplayName("Should keep reservations made while the index is being rebuilt")
+    void shouldKeepReservation_WhenReservedDuringRebuild() {
+        // Arrange
+        when(tournamentRepository.findAllScheduledRegistrations()).thenAnswer(invocation -> {
+            // A request served while the registrations are loaded, committed after they were read
+            schedulingConflictIndex.reserve(2L, EventType.TOURNAMENT, 12L, NINE, NINE.plusHours(3));
+            return List.of();
+        });
+        when(trainingSessionRepository.findAllScheduledRegistrations()).thenReturn(List.of());
+
+        // Act
+        schedulingConflictIndex.rebuild();
+
+        // Assert
+        assertThatThrownBy(() -> schedulingConflictIndex.reserve(2L, EventType.TRAINING_SESSION, 20L,
+                NINE.plusHours(1), NINE.plusHours(2)))
+                .isInstanceOf(SchedulingConflictException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep the committed window when a duplicate registration of the same event rolls back")
+    void shouldKeepCommittedWindow_WhenDuplicateRegistrationRolledBack() {
+        // Arrange
+        inTransaction(TransactionSynchronization.STATUS_COMMITTED, () -> schedulingConflictIndex.reserve(
+                USER_ID, EventType.TOURNAMENT, 30L, NINE.plusDays(1), NINE.plusDays(1).plusHours(3)));
+
+        // Act
+        // The duplicate fails on the join table's primary key and rolls back
+        inTransaction(TransactionSynchronization.STATUS_ROLLED_BACK, () -> schedulingConflictIndex.reserve(
+                USER_ID, EventType.TOURNAMENT, 30L, NINE.plusDays(1), NINE.plusDays(1).plusHours(3)));
+
+        // Assert
+        assertThatThrownBy(() -> schedulingConflictIndex.reserve(USER_ID, EventType.TRAINING_SESSION, 20L,
+                NINE.plusDays(1).plusHours(1), NINE.plusDays(1).plusHours(2)))
+                .isInstanceOf(SchedulingConflictException.class)
+                .satisfies(e -> assertThat(((SchedulingConflictException) e).getConflictingEventId())
+                        .isEqualTo(30L));
+    }
+
+    private static void inTransaction(int completionStatus, Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(completionStatus);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static ScheduledRegistration registration(Long eventId, LocalDateTime start, LocalDateTime end) {
+        ScheduledRegistration registration = mock(ScheduledRegistration.class);
+        when(registration.getUserId()).thenReturn(USER_ID);
+        when(registration.getEventId()).thenReturn(eventId);
+        when(registration.getStartDateTime()).thenReturn(start);
+        when(registration.getEndDateTime()).thenReturn(end);
+        return registration;
+    }
+}
@@ -0,0 +1,110 @@
+package com.tennistournament.service.impl;
+
+import com.tennistournament.client.AsyncClubServiceClient;
+import com.tennistournament.client.ClubNameResolver;
+import com.tennistournament.client.ClubRegistry;
+import com.tennistournament.client.ClubServiceClient;
+import com.tennistournament.client.dto.ClubResponse;
+import com.tennistournament.dto.TournamentResponse;
+import com.tennistournament.model.Tournament;
+import com.tennistournament.repository.TournamentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:tournamentstreamtest;DB_CLOSE_DELAY=-1")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Import({TournamentServiceImpl.class, ClubNameResolver.class, SchedulingConflictIndex.class})
+@DisplayName("Tournament NDJSON export tests")
+class TournamentStreamTest {
+
+    private static final int TOURNAMENT_COUNT = 250;
+
+    @Autowired
+    private TournamentServiceImpl tournamentService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @MockBean
+    private ClubServiceClient clubServiceClient;
+
+    @MockBean
+    private AsyncClubServiceClient asyncClubServiceClient;
+
+    @MockBean
+    private ClubRegistry clubRegistry;
+
+    @AfterEach
+    void tearDown() {
+        tournamentRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should stream every tournament in ID order in chunks, without a transaction while writing")
+    void shouldStreamAllTournamentsInChunks_WhenExporting() {
+        // Arrange
+        when(clubRegistry.getClub(1L)).thenReturn(new ClubResponse(1L, "Center Court", "1 Main St"));
+        LocalDateTime start = LocalDateTime.of(2030, 3, 1, 9, 0);
+        List<Tournament> tournaments = new ArrayList<>();
+        for (int i = 0; i < TOURNAMENT_COUNT; i++) {
+            tournaments.add(new Tournament("Weekly " + i, start.plusWeeks(i), start.plusWeeks(i).plusHours(6), 16, 1L));
+        }
+        tournamentRepository.saveAll(tournaments);
+        List<Integer> chunkSizes = new ArrayList<>();
+        List<TournamentResponse> streamed = new ArrayList<>();
+        List<Boolean> transactionActive = new ArrayList<>();
+
+        // Act
+        tournamentService.streamTournaments(null, chunk -> {
+            chunkSizes.add(chunk.size());
+            streamed.addAll(chunk);
+            transactionActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+        });
+
+        // Assert
+        assertThat(chunkSizes).containsExactly(100, 100, 50);
+        assertThat(streamed).extracting(TournamentResponse::getId).isSorted().doesNotHaveDuplicates();
+        assertThat(streamed).extracting(TournamentResponse::getTennisClubName).containsOnly("Center Court");
+        assertThat(transactionActive).containsOnly(false);
+    }
+
+    @Test
+    @DisplayName("Should stream only the tournaments of the requested club")
+    void shouldStreamClubTournaments_WhenClubIdGiven() {
+        // Arrange
+        when(asyncClubServiceClient.getClubById(2L))
+                .thenReturn(CompletableFuture.completedFuture(new ClubResponse(2L, "Clay Court", "2 Main St")));
+        LocalDateTime start = LocalDateTime.of(2030, 3, 1, 9, 0);
+        tournamentRepository.saveAll(List.of(
+                new Tournament("Spring Open", start, start.plusDays(2), 32, 1L),
+                new Tournament("Clay Cup", start, start.plusDays(2), 32, 2L)));
+        List<TournamentResponse> streamed = new ArrayList<>();
+
+        // Act
+        tournamentService.streamTournaments(2L, streamed::addAll);
+
+        // Assert
+        assertThat(streamed).extracting(TournamentResponse::getName).containsExactly("Clay Cup");
+    }
+}
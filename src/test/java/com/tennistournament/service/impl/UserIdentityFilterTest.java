@@ -0,0 +1,76 @@
+package com.tennistournament.service.impl;
+
+import com.tennistournament.repository.UserIdentity;
+import com.tennistournament.repository.UserProfileRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserIdentityFilter Tests")
+class UserIdentityFilterTest {
+
+    @Mock
+    private UserProfileRepository userProfileRepository;
+
+    @Test
+    @DisplayName("Should report loaded usernames and emails as possibly taken and unseen ones as free")
+    void shouldReportUnseenValuesAsFree_WhenLoaded() {
+        // Arrange
+        UserIdentity identity = mock(UserIdentity.class);
+        when(identity.getUsername()).thenReturn("testuser");
+        when(identity.getEmail()).thenReturn("test@example.com");
+        when(userProfileRepository.findAllIdentities()).thenReturn(List.of(identity));
+        UserIdentityFilter filter = new UserIdentityFilter(userProfileRepository, true, 1000, 0.01);
+
+        // Act
+        filter.load();
+
+        // Assert
+        assertThat(filter.mightContain("testuser", null)).isTrue();
+        assertThat(filter.mightContain(null, "test@example.com")).isTrue();
+        assertThat(filter.mightContain("newuser", "new@example.com")).isFalse();
+        // Usernames and emails are tracked separately
+        assertThat(filter.mightContain("test@example.com", "testuser")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should report added values as possibly taken")
+    void shouldReportValueAsTaken_WhenAdded() {
+        // Arrange
+        when(userProfileRepository.findAllIdentities()).thenReturn(List.of());
+        UserIdentityFilter filter = new UserIdentityFilter(userProfileRepository, true, 1000, 0.01);
+        filter.load();
+
+        // Act
+        filter.add("newuser", "new@example.com");
+
+        // Assert
+        assertThat(filter.mightContain("newuser", "other@example.com")).isTrue();
+        assertThat(filter.mightContain("otheruser", "new@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should treat every value as possibly taken when disabled")
+    void shouldReportEveryValueAsTaken_WhenDisabled() {
+        // Arrange
+        UserIdentityFilter filter = new UserIdentityFilter(userProfileRepository, false, 1000, 0.01);
+
+        // Act
+        filter.load();
+
+        // Assert
+        assertThat(filter.mightContain("newuser", "new@example.com")).isTrue();
+        verify(userProfileRepository, never()).findAllIdentities();
+    }
+}
@@ -0,0 +1,142 @@
+package com.tennistournament.service.impl;
+
+import com.tennistournament.dto.UserImportLine;
+import com.tennistournament.dto.UserImportResult;
+import com.tennistournament.dto.UserProfileRequest;
+import com.tennistournament.model.UserProfile;
+import com.tennistournament.repository.UserProfileRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:userimporttest;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+@Import({UserProfileServiceImpl.class, UserIdentityFilter.class, UserSearchIndex.class})
+@DisplayName("Bulk user import tests")
+class UserImportTest {
+
+    private static final int IMPORT_SIZE = 1200;
+
+    @Autowired
+    private UserProfileServiceImpl userProfileService;
+
+    @Autowired
+    private UserProfileRepository userProfileRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        userProfileRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should create valid lines and reject malformed, invalid, duplicate and existing ones")
+    void shouldReturnPerLineResults_WhenSomeLinesInvalid() {
+        // Arrange
+        UserProfile existing = new UserProfile();
+        existing.setUsername("taken");
+        existing.setEmail("taken@example.com");
+        userProfileRepository.save(existing);
+        List<UserImportLine> lines = List.of(
+                UserImportLine.parsed(1, request("alice", "alice@example.com")),
+                UserImportLine.malformed(2, "Malformed JSON: Unexpected end-of-input"),
+                UserImportLine.parsed(3, request("bo", "bo@example.com")),
+                UserImportLine.parsed(4, request("alice", "alice2@example.com")),
+                UserImportLine.parsed(5, request("bob", "alice@example.com")),
+                UserImportLine.parsed(6, request("taken", "new@example.com")),
+                UserImportLine.parsed(7, request("carol", "taken@example.com")),
+                UserImportLine.parsed(8, request("dave", "dave@example.com")),
+                UserImportLine.parsed(9, request("erin", "erin@example..com")));
+        List<UserImportResult> results = new ArrayList<>();
+
+        // Act
+        userProfileService.importUsers(lines.iterator(), results::addAll);
+
+        // Assert
+        assertThat(results).extracting(UserImportResult::getLine).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(results).extracting(UserImportResult::getStatus).containsExactly(
+                "CREATED", "REJECTED", "REJECTED", "REJECTED", "REJECTED", "REJECTED", "REJECTED", "CREATED",
+                "REJECTED");
+        assertThat(results).extracting(UserImportResult::getError).containsExactly(
+                null,
+                "Malformed JSON: Unexpected end-of-input",
+                "Username must be between 3 and 50 characters",
+                "Duplicate username in import: alice",
+                "Duplicate email in import: alice@example.com",
+                "Username already exists: taken",
+                "Email already exists: taken@example.com",
+                null,
+                "Email should be valid");
+        assertThat(results.get(7).getUser().getId()).isNotNull();
+        assertThat(userProfileRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should import many users in chunks with batched inserts")
+    void shouldBatchInserts_WhenImportingManyUsers() {
+        // Arrange
+        List<UserImportLine> lines = new ArrayList<>();
+        for (int i = 0; i < IMPORT_SIZE; i++) {
+            lines.add(UserImportLine.parsed(i + 1, request("member" + i, "member" + i + "@example.com")));
+        }
+        List<Integer> chunkSizes = new ArrayList<>();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        userProfileService.importUsers(lines.iterator(), chunk -> chunkSizes.add(chunk.size()));
+
+        // Assert
+        assertThat(chunkSizes).containsExactly(500, 500, 200);
+        assertThat(userProfileRepository.count()).isEqualTo(IMPORT_SIZE);
+        // One existence check per chunk, a sequence call and one insert batch per 50 users
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(IMPORT_SIZE / 10);
+    }
+
+    @Test
+    @DisplayName("Should reject a line that repeats a user from an earlier chunk")
+    void shouldRejectLine_WhenUserImportedInEarlierChunk() {
+        // Arrange
+        List<UserImportLine> lines = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            lines.add(UserImportLine.parsed(i + 1, request("member" + i, "member" + i + "@example.com")));
+        }
+        lines.add(UserImportLine.parsed(501, request("member0", "other@example.com")));
+        List<UserImportResult> results = new ArrayList<>();
+
+        // Act
+        userProfileService.importUsers(lines.iterator(), results::addAll);
+
+        // Assert
+        assertThat(results.get(500).getStatus()).isEqualTo("REJECTED");
+        assertThat(results.get(500).getError()).isEqualTo("Username already exists: member0");
+        assertThat(userProfileRepository.count()).isEqualTo(500);
+    }
+
+    private static UserProfileRequest request(String username, String email) {
+        return new UserProfileRequest(username, email, "First", "Last", "BEGINNER");
+    }
+}
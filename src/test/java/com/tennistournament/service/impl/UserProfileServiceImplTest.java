@@ -3,7 +3,9 @@ package com.tennistournament.service.impl;
 import com.tennistournament.dto.UserProfileRequest;
 import com.tennistournament.dto.UserProfileResponse;
 import com.tennistournament.model.UserProfile;
+import com.tennistournament.repository.UserIdentity;
 import com.tennistournament.repository.UserProfileRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,9 +13,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -31,6 +35,12 @@ class UserProfileServiceImplTest {
     @Mock
     private UserProfileRepository userProfileRepository;
 
+    @Mock
+    private UserIdentityFilter userIdentityFilter;
+
+    @Mock
+    private UserSearchIndex userSearchIndex;
+
     @InjectMocks
     private UserProfileServiceImpl userProfileService;
 
@@ -64,9 +74,10 @@ class UserProfileServiceImplTest {
     @DisplayName("Should create user when valid data provided")
     void shouldCreateUser_WhenValidData() {
         // Arrange
-        when(userProfileRepository.findByUsername("testuser")).thenReturn(Optional.empty());
-        when(userProfileRepository.findByEmail("test@example.com")).thenReturn(Optional.empty());
-        when(userProfileRepository.save(any(UserProfile.class))).thenReturn(savedUser);
+        when(userIdentityFilter.mightContain("testuser", "test@example.com")).thenReturn(true);
+        when(userProfileRepository.findIdentitiesByUsernameOrEmail("testuser", "test@example.com"))
+                .thenReturn(List.of());
+        when(userProfileRepository.saveAndFlush(any(UserProfile.class))).thenReturn(savedUser);
 
         // Act
         UserProfileResponse result = userProfileService.createUser(validRequest);
@@ -82,18 +93,17 @@ class UserProfileServiceImplTest {
         assertThat(result.getRegisteredTournamentIds()).isEmpty();
         assertThat(result.getRegisteredTrainingSessionIds()).isEmpty();
         
-        verify(userProfileRepository, times(1)).findByUsername("testuser");
-        verify(userProfileRepository, times(1)).findByEmail("test@example.com");
-        verify(userProfileRepository, times(1)).save(any(UserProfile.class));
+        verify(userProfileRepository, times(1)).findIdentitiesByUsernameOrEmail("testuser", "test@example.com");
+        verify(userProfileRepository, times(1)).saveAndFlush(any(UserProfile.class));
     }
 
     @Test
     @DisplayName("Should throw exception when username already exists")
     void shouldThrowException_WhenUsernameAlreadyExists() {
         // Arrange
-        UserProfile existingUser = new UserProfile();
-        existingUser.setUsername("testuser");
-        when(userProfileRepository.findByUsername("testuser")).thenReturn(Optional.of(existingUser));
+        when(userIdentityFilter.mightContain("testuser", "test@example.com")).thenReturn(true);
+        when(userProfileRepository.findIdentitiesByUsernameOrEmail("testuser", "test@example.com"))
+                .thenReturn(List.of(identity("testuser", "other@example.com")));
 
         // Act & Assert
         assertThatThrownBy(() -> userProfileService.createUser(validRequest))
@@ -104,19 +114,17 @@ class UserProfileServiceImplTest {
                     assertThat(ex.getReason()).contains("Username already exists: testuser");
                 });
         
-        verify(userProfileRepository, times(1)).findByUsername("testuser");
-        verify(userProfileRepository, never()).findByEmail(any());
-        verify(userProfileRepository, never()).save(any());
+        verify(userProfileRepository, times(1)).findIdentitiesByUsernameOrEmail("testuser", "test@example.com");
+        verify(userProfileRepository, never()).saveAndFlush(any());
     }
 
     @Test
     @DisplayName("Should throw exception when email already exists")
     void shouldThrowException_WhenEmailAlreadyExists() {
         // Arrange
-        when(userProfileRepository.findByUsername("testuser")).thenReturn(Optional.empty());
-        UserProfile existingUser = new UserProfile();
-        existingUser.setEmail("test@example.com");
-        when(userProfileRepository.findByEmail("test@example.com")).thenReturn(Optional.of(existingUser));
+        when(userIdentityFilter.mightContain("testuser", "test@example.com")).thenReturn(true);
+        when(userProfileRepository.findIdentitiesByUsernameOrEmail("testuser", "test@example.com"))
+                .thenReturn(List.of(identity("otheruser", "test@example.com")));
 
         // Act & Assert
         assertThatThrownBy(() -> userProfileService.createUser(validRequest))
@@ -127,9 +135,8 @@ class UserProfileServiceImplTest {
                     assertThat(ex.getReason()).contains("Email already exists: test@example.com");
                 });
         
-        verify(userProfileRepository, times(1)).findByUsername("testuser");
-        verify(userProfileRepository, times(1)).findByEmail("test@example.com");
-        verify(userProfileRepository, never()).save(any());
+        verify(userProfileRepository, times(1)).findIdentitiesByUsernameOrEmail("testuser", "test@example.com");
+        verify(userProfileRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -147,9 +154,7 @@ class UserProfileServiceImplTest {
         savedUser.setLastName(null);
         savedUser.setSkillLevel(null);
         
-        when(userProfileRepository.findByUsername("testuser")).thenReturn(Optional.empty());
-        when(userProfileRepository.findByEmail("test@example.com")).thenReturn(Optional.empty());
-        when(userProfileRepository.save(any(UserProfile.class))).thenReturn(savedUser);
+        when(userProfileRepository.saveAndFlush(any(UserProfile.class))).thenReturn(savedUser);
 
         // Act
         UserProfileResponse result = userProfileService.createUser(requestWithNulls);
@@ -162,7 +167,47 @@ class UserProfileServiceImplTest {
         assertThat(result.getLastName()).isNull();
         assertThat(result.getSkillLevel()).isNull();
         
-        verify(userProfileRepository, times(1)).save(any(UserProfile.class));
+        verify(userProfileRepository, times(1)).saveAndFlush(any(UserProfile.class));
+    }
+
+    @Test
+    @DisplayName("Should insert without a uniqueness query when the filter has not seen the values")
+    void shouldSkipUniquenessQuery_WhenFilterMisses() {
+        // Arrange
+        when(userIdentityFilter.mightContain("testuser", "test@example.com")).thenReturn(false);
+        when(userProfileRepository.saveAndFlush(any(UserProfile.class))).thenReturn(savedUser);
+
+        // Act
+        UserProfileResponse result = userProfileService.createUser(validRequest);
+
+        // Assert
+        assertThat(result.getId()).isEqualTo(userId);
+        verify(userProfileRepository, never()).findIdentitiesByUsernameOrEmail(any(), any());
+        verify(userIdentityFilter, times(1)).add("testuser", "test@example.com");
+        verify(userSearchIndex, times(1)).index(savedUser);
+    }
+
+    @Test
+    @DisplayName("Should throw conflict when the insert violates the email unique constraint")
+    void shouldThrowException_WhenEmailConstraintViolated() {
+        // Arrange
+        when(userIdentityFilter.mightContain("testuser", "test@example.com")).thenReturn(false);
+        // H2 reports the index backing the constraint, with the schema as prefix
+        when(userProfileRepository.saveAndFlush(any(UserProfile.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement", new ConstraintViolationException("could not execute statement",
+                        new SQLException("Unique index or primary key violation", "23505"),
+                        "PUBLIC.UK_USER_PROFILES_EMAIL_INDEX_8")));
+
+        // Act & Assert
+        assertThatThrownBy(() -> userProfileService.createUser(validRequest))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(exception -> {
+                    ResponseStatusException ex = (ResponseStatusException) exception;
+                    assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+                    assertThat(ex.getReason()).contains("Email already exists: test@example.com");
+                });
+        
+        verify(userIdentityFilter, never()).add(any(), any());
     }
 
     @Test
@@ -274,9 +319,10 @@ class UserProfileServiceImplTest {
         updatedUser.setRegisteredTrainingSessions(new java.util.HashSet<>());
 
         when(userProfileRepository.findById(userId)).thenReturn(Optional.of(savedUser));
-        when(userProfileRepository.findByUsername("updateduser")).thenReturn(Optional.empty());
-        when(userProfileRepository.findByEmail("updated@example.com")).thenReturn(Optional.empty());
-        when(userProfileRepository.save(any(UserProfile.class))).thenReturn(updatedUser);
+        when(userIdentityFilter.mightContain("updateduser", "updated@example.com")).thenReturn(true);
+        when(userProfileRepository.findIdentitiesByUsernameOrEmail("updateduser", "updated@example.com"))
+                .thenReturn(List.of());
+        when(userProfileRepository.saveAndFlush(any(UserProfile.class))).thenReturn(updatedUser);
 
         // Act
         UserProfileResponse result = userProfileService.updateUser(userId, updateRequest);
@@ -291,9 +337,8 @@ class UserProfileServiceImplTest {
         assertThat(result.getSkillLevel()).isEqualTo("ADVANCED");
         
         verify(userProfileRepository, times(1)).findById(userId);
-        verify(userProfileRepository, times(1)).findByUsername("updateduser");
-        verify(userProfileRepository, times(1)).findByEmail("updated@example.com");
-        verify(userProfileRepository, times(1)).save(any(UserProfile.class));
+        verify(userProfileRepository, times(1)).findIdentitiesByUsernameOrEmail("updateduser", "updated@example.com");
+        verify(userProfileRepository, times(1)).saveAndFlush(any(UserProfile.class));
     }
 
     @Test
@@ -319,7 +364,7 @@ class UserProfileServiceImplTest {
         updatedUser.setRegisteredTrainingSessions(new java.util.HashSet<>());
 
         when(userProfileRepository.findById(userId)).thenReturn(Optional.of(savedUser));
-        when(userProfileRepository.save(any(UserProfile.class))).thenReturn(updatedUser);
+        when(userProfileRepository.saveAndFlush(any(UserProfile.class))).thenReturn(updatedUser);
 
         // Act
         UserProfileResponse result = userProfileService.updateUser(userId, updateRequest);
@@ -331,9 +376,8 @@ class UserProfileServiceImplTest {
         assertThat(result.getFirstName()).isEqualTo("Jane");
         
         verify(userProfileRepository, times(1)).findById(userId);
-        verify(userProfileRepository, never()).findByUsername(any());
-        verify(userProfileRepository, never()).findByEmail(any());
-        verify(userProfileRepository, times(1)).save(any(UserProfile.class));
+        verify(userProfileRepository, never()).findIdentitiesByUsernameOrEmail(any(), any());
+        verify(userProfileRepository, times(1)).saveAndFlush(any(UserProfile.class));
     }
 
     @Test
@@ -360,9 +404,8 @@ class UserProfileServiceImplTest {
                 });
         
         verify(userProfileRepository, times(1)).findById(nonExistentId);
-        verify(userProfileRepository, never()).findByUsername(any());
-        verify(userProfileRepository, never()).findByEmail(any());
-        verify(userProfileRepository, never()).save(any());
+        verify(userProfileRepository, never()).findIdentitiesByUsernameOrEmail(any(), any());
+        verify(userProfileRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -377,12 +420,10 @@ class UserProfileServiceImplTest {
                 "ADVANCED"
         );
         
-        UserProfile existingUser = new UserProfile();
-        existingUser.setId(999L);
-        existingUser.setUsername("existinguser");
-
         when(userProfileRepository.findById(userId)).thenReturn(Optional.of(savedUser));
-        when(userProfileRepository.findByUsername("existinguser")).thenReturn(Optional.of(existingUser));
+        when(userIdentityFilter.mightContain("existinguser", null)).thenReturn(true);
+        when(userProfileRepository.findIdentitiesByUsernameOrEmail("existinguser", null))
+                .thenReturn(List.of(identity("existinguser", "existing@example.com")));
 
         // Act & Assert
         assertThatThrownBy(() -> userProfileService.updateUser(userId, updateRequest))
@@ -394,9 +435,8 @@ class UserProfileServiceImplTest {
                 });
         
         verify(userProfileRepository, times(1)).findById(userId);
-        verify(userProfileRepository, times(1)).findByUsername("existinguser");
-        verify(userProfileRepository, never()).findByEmail(any());
-        verify(userProfileRepository, never()).save(any());
+        verify(userProfileRepository, times(1)).findIdentitiesByUsernameOrEmail("existinguser", null);
+        verify(userProfileRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -411,12 +451,10 @@ class UserProfileServiceImplTest {
                 "ADVANCED"
         );
         
-        UserProfile existingUser = new UserProfile();
-        existingUser.setId(999L);
-        existingUser.setEmail("existing@example.com");
-
         when(userProfileRepository.findById(userId)).thenReturn(Optional.of(savedUser));
-        when(userProfileRepository.findByEmail("existing@example.com")).thenReturn(Optional.of(existingUser));
+        when(userIdentityFilter.mightContain(null, "existing@example.com")).thenReturn(true);
+        when(userProfileRepository.findIdentitiesByUsernameOrEmail(null, "existing@example.com"))
+                .thenReturn(List.of(identity("existinguser", "existing@example.com")));
 
         // Act & Assert
         assertThatThrownBy(() -> userProfileService.updateUser(userId, updateRequest))
@@ -428,9 +466,8 @@ class UserProfileServiceImplTest {
                 });
         
         verify(userProfileRepository, times(1)).findById(userId);
-        verify(userProfileRepository, never()).findByUsername(any());
-        verify(userProfileRepository, times(1)).findByEmail("existing@example.com");
-        verify(userProfileRepository, never()).save(any());
+        verify(userProfileRepository, times(1)).findIdentitiesByUsernameOrEmail(null, "existing@example.com");
+        verify(userProfileRepository, never()).saveAndFlush(any());
     }
 
     @Test
@@ -453,8 +490,10 @@ class UserProfileServiceImplTest {
         updatedUser.setRegisteredTrainingSessions(new java.util.HashSet<>());
 
         when(userProfileRepository.findById(userId)).thenReturn(Optional.of(savedUser));
-        when(userProfileRepository.findByUsername("newusername")).thenReturn(Optional.empty());
-        when(userProfileRepository.save(any(UserProfile.class))).thenReturn(updatedUser);
+        when(userIdentityFilter.mightContain("newusername", null)).thenReturn(true);
+        when(userProfileRepository.findIdentitiesByUsernameOrEmail("newusername", null))
+                .thenReturn(List.of());
+        when(userProfileRepository.saveAndFlush(any(UserProfile.class))).thenReturn(updatedUser);
 
         // Act
         UserProfileResponse result = userProfileService.updateUser(userId, updateRequest);
@@ -464,8 +503,7 @@ class UserProfileServiceImplTest {
         assertThat(result.getUsername()).isEqualTo("newusername");
         assertThat(result.getEmail()).isEqualTo("test@example.com");
         
-        verify(userProfileRepository, times(1)).findByUsername("newusername");
-        verify(userProfileRepository, never()).findByEmail(any());
+        verify(userProfileRepository, times(1)).findIdentitiesByUsernameOrEmail("newusername", null);
     }
 
     @Test
@@ -488,8 +526,10 @@ class UserProfileServiceImplTest {
         updatedUser.setRegisteredTrainingSessions(new java.util.HashSet<>());
 
         when(userProfileRepository.findById(userId)).thenReturn(Optional.of(savedUser));
-        when(userProfileRepository.findByEmail("newemail@example.com")).thenReturn(Optional.empty());
-        when(userProfileRepository.save(any(UserProfile.class))).thenReturn(updatedUser);
+        when(userIdentityFilter.mightContain(null, "newemail@example.com")).thenReturn(true);
+        when(userProfileRepository.findIdentitiesByUsernameOrEmail(null, "newemail@example.com"))
+                .thenReturn(List.of());
+        when(userProfileRepository.saveAndFlush(any(UserProfile.class))).thenReturn(updatedUser);
 
         // Act
         UserProfileResponse result = userProfileService.updateUser(userId, updateRequest);
@@ -499,10 +539,20 @@ class UserProfileServiceImplTest {
         assertThat(result.getUsername()).isEqualTo("testuser");
         assertThat(result.getEmail()).isEqualTo("newemail@example.com");
         
-        verify(userProfileRepository, never()).findByUsername(any());
-        verify(userProfileRepository, times(1)).findByEmail("newemail@example.com");
+        verify(userProfileRepository, times(1)).findIdentitiesByUsernameOrEmail(null, "newemail@example.com");
     }
-}
-
-
 
+    private static UserIdentity identity(String username, String email) {
+        return new UserIdentity() {
+            @Override
+            public String getUsername() {
+                return username;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+}
@@ -0,0 +1,128 @@
+package com.tennistournament.service.impl;
+
+import com.tennistournament.dto.UserSearchResult;
+import com.tennistournament.model.UserProfile;
+import com.tennistournament.repository.UserProfileRepository;
+import com.tennistournament.repository.UserSearchFields;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserSearchIndex Tests")
+class UserSearchIndexTest {
+
+    @Mock
+    private UserProfileRepository userProfileRepository;
+
+    private UserSearchIndex userSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        userSearchIndex = new UserSearchIndex(userProfileRepository, 10000);
+        userSearchIndex.index(user(1L, "jsmith", "john.smith@example.com", "John", "Smith", "ADVANCED"));
+        userSearchIndex.index(user(2L, "johnny", "johnny@example.com", "Jonathan", "Miller", "BEGINNER"));
+        userSearchIndex.index(user(3L, "anna", "anna.johnson@example.com", "Anna", "Johnson", "ADVANCED"));
+        userSearchIndex.index(user(4L, "mwhite", "mary@example.com", "Mary", "White", "INTERMEDIATE"));
+    }
+
+    @Test
+    @DisplayName("Should rank whole-word matches first, then username prefixes above name prefixes")
+    void shouldRankResults_WhenPrefixMatchesSeveralFields() {
+        // Act
+        List<UserSearchResult> results = userSearchIndex.search("john", null, 10);
+
+        // Assert
+        assertThat(results).extracting(UserSearchResult::getUsername).containsExactly("jsmith", "johnny", "anna");
+        assertThat(results.get(0).getScore()).isGreaterThan(results.get(1).getScore());
+        assertThat(results.get(1).getScore()).isGreaterThan(results.get(2).getScore());
+    }
+
+    @Test
+    @DisplayName("Should require every term to match and apply the skill level filter")
+    void shouldFilterResults_WhenSeveralTermsAndSkillLevel() {
+        // Act
+        List<UserSearchResult> bothTerms = userSearchIndex.search("Jo Sm", null, 10);
+        List<UserSearchResult> advancedOnly = userSearchIndex.search("jo", "advanced", 10);
+
+        // Assert
+        assertThat(bothTerms).extracting(UserSearchResult::getId).containsExactly(1L);
+        assertThat(advancedOnly).extracting(UserSearchResult::getId).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should return at most the requested number of results")
+    void shouldLimitResults_WhenMoreMatches() {
+        // Act
+        List<UserSearchResult> results = userSearchIndex.search("example", null, 2);
+
+        // Assert
+        assertThat(results).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should find users by their new values only after an update")
+    void shouldReplaceTokens_WhenUserUpdated() {
+        // Act
+        userSearchIndex.index(user(4L, "mblack", "mary@example.com", "Mary", "Black", "INTERMEDIATE"));
+
+        // Assert
+        assertThat(userSearchIndex.search("white", null, 10)).isEmpty();
+        assertThat(userSearchIndex.search("bla", null, 10)).extracting(UserSearchResult::getUsername)
+                .containsExactly("mblack");
+    }
+
+    @Test
+    @DisplayName("Should count only users of the requested skill level against the candidate cap")
+    void shouldFindFilteredUser_WhenOtherSkillLevelsExceedCandidateCap() {
+        // Arrange
+        UserSearchIndex cappedIndex = new UserSearchIndex(userProfileRepository, 2);
+        cappedIndex.index(user(11L, "paula", "paula@example.com", null, null, "BEGINNER"));
+        cappedIndex.index(user(12L, "paulb", "paulb@example.com", null, null, "BEGINNER"));
+        cappedIndex.index(user(13L, "paulc", "paulc@example.com", null, null, "BEGINNER"));
+        cappedIndex.index(user(14L, "paulz", "paulz@example.com", null, null, "ADVANCED"));
+
+        // Act
+        List<UserSearchResult> results = cappedIndex.search("paul", "advanced", 10);
+
+        // Assert
+        assertThat(results).extracting(UserSearchResult::getId).containsExactly(14L);
+    }
+
+    @Test
+    @DisplayName("Should load users from the database when rebuilt")
+    void shouldFindLoadedUsers_WhenRebuilt() {
+        // Arrange
+        UserSearchFields row = mock(UserSearchFields.class);
+        when(row.getId()).thenReturn(7L);
+        when(row.getUsername()).thenReturn("serena");
+        when(row.getEmail()).thenReturn("serena@example.com");
+        when(row.getFirstName()).thenReturn("Serena");
+        when(row.getLastName()).thenReturn("Court");
+        when(row.getSkillLevel()).thenReturn("PRO");
+        when(userProfileRepository.findAllSearchFields()).thenReturn(List.of(row));
+
+        // Act
+        userSearchIndex.rebuild();
+
+        // Assert
+        assertThat(userSearchIndex.search("cou", null, 10)).extracting(UserSearchResult::getId).containsExactly(7L);
+        assertThat(userSearchIndex.search("john", null, 10)).isEmpty();
+    }
+
+    private static UserProfile user(Long id, String username, String email, String firstName, String lastName,
+                                    String skillLevel) {
+        UserProfile user = new UserProfile(username, email, firstName, lastName, skillLevel);
+        user.setId(id);
+        return user;
+    }
+}